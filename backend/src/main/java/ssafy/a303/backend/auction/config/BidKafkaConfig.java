@@ -0,0 +1,397 @@
+package ssafy.a303.backend.auction.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerPausingBackOffHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
+import org.springframework.kafka.listener.RetryListener;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.kafka.support.serializer.DelegatingByTopicDeserializer;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.backoff.ExponentialBackOff;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.kafka.BidEventDeserializer;
+import ssafy.a303.backend.auction.kafka.BidEventSerializer;
+import ssafy.a303.backend.auction.kafka.Topic;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 입찰(auction-bid) 토픽 전용 Kafka 설정
+ * - 마감 직전 입찰 폭주에 대비해 레코드를 묶음(batch) 단위로 받아 Redis 에 파이프라인으로 반영한다.
+ * - Producer 가 auctionSeq 를 key 로 보내므로 한 경매는 항상 한 파티션에만 들어간다.
+ *   파티션은 한 시점에 하나의 consumer 스레드에만 할당되므로, 파티션 수만큼 병렬로 소비해도 경매별 순서는 유지된다.
+ */
+@Slf4j
+@Configuration
+public class BidKafkaConfig {
+
+    public static final String BID_BATCH_LISTENER_FACTORY = "bidBatchListenerContainerFactory";
+    public static final String BID_RETRY_LISTENER_FACTORY = "bidRetryListenerContainerFactory";
+
+    // auction-bid / auction-bid-retry / auction-bid-dlt 는 입찰 바이너리 포맷 (auction-bid-reply 는 JSON)
+    private static final Pattern BID_EVENT_TOPICS = Pattern.compile("auction-bid(-retry|-dlt)?");
+
+    @Value("${bid.kafka.partitions:6}")
+    private int partitions;
+
+    @Value("${bid.kafka.replicas:1}")
+    private int replicas;
+
+    // 인스턴스 한 대에서 띄울 consumer 스레드 수 (전체 인스턴스 합이 파티션 수를 넘으면 남는 스레드는 놀게 된다)
+    @Value("${bid.kafka.concurrency:3}")
+    private int concurrency;
+
+    // 동기 입찰(request/reply) 응답 대기 시간
+    @Value("${bid.kafka.reply-timeout-ms:2000}")
+    private long replyTimeoutMs;
+
+    // 응답 수신 group 의 인스턴스 식별자 (재기동해도 같은 값이어야 브로커에 group 이 쌓이지 않는다, 비우면 HOSTNAME)
+    @Value("${bid.kafka.reply-instance-id:}")
+    private String replyInstanceId;
+
+    // 재시도 토픽에서의 재시도 횟수와 간격 (다 실패하면 DLT 로 이동)
+    @Value("${bid.kafka.retry.attempts:3}")
+    private int retryAttempts;
+
+    @Value("${bid.kafka.retry.initial-interval-ms:1000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${bid.kafka.retry.max-interval-ms:8000}")
+    private long retryMaxIntervalMs;
+
+    /*
+     * 입찰 토픽은 없을 때만 만든다 (이미 있으면 파티션 수를 포함해 건드리지 않는다)
+     * KafkaAdmin 은 기본적으로 기존 토픽의 파티션이 부족하면 기동 시 늘리는데, 그러면 진행 중 경매의 key → 파티션 매핑이 바뀌어
+     * 경매별 순서가 깨진다. 파티션 증설은 진행 중 경매가 없을 때 kafka-topics --alter 로 따로 수행한다.
+     */
+    @Bean
+    public static BeanPostProcessor bidTopicCreateOnlyPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof KafkaAdmin admin) {
+                    admin.setCreateOrModifyTopic(new CreateIfAbsent(admin));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public NewTopic auctionBidTopic() {
+        return TopicBuilder.name(Topic.AUCTION_BID.getTopic())
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic auctionBidReplyTopic() {
+        return TopicBuilder.name(Topic.AUCTION_BID_REPLY.getTopic())
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic auctionBidRetryTopic() {
+        return TopicBuilder.name(Topic.AUCTION_BID_RETRY.getTopic())
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic auctionBidDltTopic() {
+        return TopicBuilder.name(Topic.AUCTION_BID_DLT.getTopic())
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    /**
+     * 동기 입찰 응답 수신 컨테이너
+     * - 인스턴스마다 고유한 group(auction-bid-reply-{인스턴스 식별자})으로 응답 토픽 전체를 구독하고, correlationId 가 맞는 응답만 가져간다.
+     *   식별자는 재기동해도 같으므로 group 이 재사용된다.
+     * - 새 group 이 과거 응답을 다시 읽지 않도록 latest 부터 읽는다.
+     */
+    @Bean
+    public ConcurrentMessageListenerContainer<Object, Object> bidReplyContainer(
+            ConsumerFactory<Object, Object> consumerFactory
+    ) {
+        ContainerProperties containerProperties = new ContainerProperties(Topic.AUCTION_BID_REPLY.getTopic());
+        containerProperties.setGroupId("auction-bid-reply-" + replyInstanceId());
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+        return new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
+    }
+
+    private String replyInstanceId() {
+        if (!replyInstanceId.isBlank()) return replyInstanceId;
+        return System.getenv().getOrDefault("HOSTNAME", "local");
+    }
+
+    /*
+     * bid.serde=binary (기본값) 이면 BidEventMessage 는 고정 길이 바이너리, 그 외 타입(응답 DTO 등)은 JSON 으로 직렬화한다.
+     * bid.serde=json 이면 application.yml 의 JsonSerializer/JsonDeserializer 설정을 그대로 사용한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "bid.serde", havingValue = "binary", matchIfMissing = true)
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaProducerFactoryCustomizer bidBinaryProducerCustomizer() {
+        return producerFactory -> ((DefaultKafkaProducerFactory<Object, Object>) producerFactory)
+                .setValueSerializerSupplier(() -> {
+                    Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+                    // 역직렬화에 실패한 레코드는 원본 바이트 그대로 DLT 로 보낸다
+                    delegates.put(byte[].class, new ByteArraySerializer());
+                    delegates.put(BidEventMessage.class, new BidEventSerializer());
+                    delegates.put(Object.class, new JsonSerializer<>());
+                    return new DelegatingByTypeSerializer(delegates, true);
+                });
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bid.serde", havingValue = "binary", matchIfMissing = true)
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaConsumerFactoryCustomizer bidBinaryConsumerCustomizer() {
+        return consumerFactory -> ((DefaultKafkaConsumerFactory<Object, Object>) consumerFactory)
+                .setValueDeserializerSupplier(() -> new ErrorHandlingDeserializer<>(new DelegatingByTopicDeserializer(
+                        Map.of(BID_EVENT_TOPICS, new BidEventDeserializer()),
+                        new JsonDeserializer<>()
+                )));
+    }
+
+    /*
+     * ReplyingKafkaTemplate 도 KafkaTemplate 이라 Boot 기본 kafkaTemplate 이 등록되지 않으므로 직접 등록한다.
+     * 일반 전송(fire-and-forget)은 이 템플릿을 사용한다.
+     */
+    @Bean
+    @Primary
+    public KafkaTemplate<Object, Object> kafkaTemplate(ProducerFactory<Object, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean
+    public ReplyingKafkaTemplate<Object, Object, Object> bidReplyingKafkaTemplate(
+            ProducerFactory<Object, Object> producerFactory,
+            ConcurrentMessageListenerContainer<Object, Object> bidReplyContainer
+    ) {
+        ReplyingKafkaTemplate<Object, Object, Object> template = new ReplyingKafkaTemplate<>(producerFactory, bidReplyContainer);
+        template.setDefaultReplyTimeout(Duration.ofMillis(replyTimeoutMs));
+        // 모든 인스턴스가 같은 응답 토픽을 받으므로 다른 인스턴스의 응답은 조용히 무시
+        template.setSharedReplyTopic(true);
+        return template;
+    }
+
+    @Bean(name = BID_BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> bidBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+
+        factory.setBatchListener(true);
+        factory.setConcurrency(Math.min(concurrency, partitions));
+
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        // 배치 전체가 Redis 에 반영된 직후 listener 가 직접 오프셋 커밋 (acknowledge 즉시 commitSync)
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        // Redis 반영 실패는 listener 가 재시도 토픽으로 넘기므로, 여기는 재시도/DLT 토픽 전송 자체가 실패한 경우만 온다
+        // 건너뛰면 입찰이 사라지므로 오프셋을 넘기지 않고 간격을 늘려 가며 무한 재시도한다. (파티션은 멈추고, 브로커가 돌아오면 이어서 처리)
+        // (같은 배치를 다시 받아도 bidId 로 멱등하므로 일부가 이미 반영됐어도 안전)
+        factory.setCommonErrorHandler(stallingErrorHandler());
+
+        // 리밸런스 시 전체 파티션을 회수하지 않고 이동하는 파티션만 넘긴다 (나머지 경매는 계속 소비)
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+        containerProperties.setKafkaConsumerProperties(consumerProperties);
+        containerProperties.setConsumerRebalanceListener(new BidRebalanceListener());
+        return factory;
+    }
+
+    private static DefaultErrorHandler stallingErrorHandler() {
+        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
+        backOff.setMaxInterval(30_000L);
+        // maxElapsedTime 기본값이 무제한이라 recoverer(오프셋을 넘기고 버림)까지 가지 않는다
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(backOff);
+        errorHandler.setRetryListeners(new RetryListener() {
+            @Override
+            public void failedDelivery(ConsumerRecord<?, ?> record, Exception ex, int deliveryAttempt) {
+                log.error("[Kafka] 입찰 레코드 재시도/DLT 전송 실패, 재시도 - partition={}, offset={}, attempt={}: {}",
+                        record.partition(), record.offset(), deliveryAttempt, ex.getMessage());
+            }
+
+            @Override
+            public void failedDelivery(ConsumerRecords<?, ?> records, Exception ex, int deliveryAttempt) {
+                for (TopicPartition partition : records.partitions()) {
+                    List<? extends ConsumerRecord<?, ?>> batch = records.records(partition);
+                    log.error("[Kafka] 입찰 배치 재시도/DLT 전송 실패, 재시도 - partition={}, offsets={}~{}, attempt={}: {}",
+                            partition, batch.get(0).offset(), batch.get(batch.size() - 1).offset(),
+                            deliveryAttempt, ex.getMessage());
+                }
+            }
+        });
+        return errorHandler;
+    }
+
+    /**
+     * 실패한 입찰 레코드 전송
+     * - auction-bid 에서 실패한 레코드 → auction-bid-retry (원래 파티션이 아니라 key 기준 파티션, 경매별 순서 유지)
+     * - auction-bid-retry 에서도 실패했거나, 역직렬화에 실패한(재시도해도 소용없는) 레코드 → auction-bid-dlt
+     * 원본 토픽/오프셋, 예외 메시지는 헤더에 남는다.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer bidDeadLetterRecoverer(KafkaTemplate<Object, Object> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate, (record, exception) -> {
+            boolean poison = record.value() == null || exception instanceof DeserializationException
+                    || exception.getCause() instanceof DeserializationException;
+            boolean fromMain = Topic.AUCTION_BID.getTopic().equals(record.topic());
+            String destination = (fromMain && !poison)
+                    ? Topic.AUCTION_BID_RETRY.getTopic()
+                    : Topic.AUCTION_BID_DLT.getTopic();
+            return new TopicPartition(destination, -1);
+        });
+    }
+
+    /**
+     * 재시도 토픽(auction-bid-retry) 소비용 - 레코드 단위
+     * 실패하면 지수 백오프로 재시도하고, 그래도 실패하면 DLT 로 보낸다.
+     * 백오프는 consumer 스레드를 재우지 않고 실패한 레코드의 파티션만 일시 정지(ContainerPausingBackOffHandler)한 뒤
+     * 백오프가 끝나면 재개하므로, 같은 consumer 에 배정된 다른 재시도 파티션은 계속 소비된다.
+     * (같은 파티션의 뒤 레코드는 경매별 순서를 지키기 위해 함께 기다린다)
+     * consumer 수는 auction-bid 와 같이 파티션 수까지 늘린다.
+     */
+    @Bean(name = BID_RETRY_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> bidRetryListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            DeadLetterPublishingRecoverer bidDeadLetterRecoverer,
+            KafkaListenerEndpointRegistry registry,
+            TaskScheduler taskScheduler
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+
+        factory.setBatchListener(false);
+        factory.setConcurrency(Math.min(concurrency, partitions));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retryAttempts);
+        backOff.setInitialInterval(retryInitialIntervalMs);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(retryMaxIntervalMs);
+        ContainerPausingBackOffHandler backOffHandler =
+                new ContainerPausingBackOffHandler(new ListenerContainerPauseService(registry, taskScheduler));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(bidDeadLetterRecoverer, backOff, backOffHandler));
+        return factory;
+    }
+
+    /**
+     * KafkaAdmin 이 관리할 토픽 판별 - 브로커에 아직 없는 토픽만
+     * 브로커 조회에 실패하면 기존 토픽을 변경하지 않도록 아무 토픽도 관리하지 않는다.
+     */
+    static class CreateIfAbsent implements Predicate<NewTopic> {
+
+        private final KafkaAdmin admin;
+        private Set<String> existing;
+
+        CreateIfAbsent(KafkaAdmin admin) {
+            this.admin = admin;
+        }
+
+        @Override
+        public synchronized boolean test(NewTopic topic) {
+            if (existing == null) {
+                try (AdminClient client = AdminClient.create(admin.getConfigurationProperties())) {
+                    existing = client.listTopics().names().get(admin.getOperationTimeout(), TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    log.warn("[Kafka] 토픽 목록 조회 실패 - 토픽 생성을 건너뜀: {}", e.getMessage());
+                    return false;
+                }
+            }
+            boolean absent = !existing.contains(topic.name());
+            if (!absent) {
+                log.info("[Kafka] 토픽 {} 이미 존재 - 파티션 수 변경 없음 (설정값 {})", topic.name(), topic.numPartitions());
+            }
+            return absent;
+        }
+    }
+
+    /**
+     * 파티션 인계 로그
+     * 처리 중이던 배치는 회수 전에 끝까지 반영되고, 컨테이너가 그 오프셋까지 커밋한 뒤 파티션을 넘긴다.
+     */
+    static class BidRebalanceListener implements ConsumerAwareRebalanceListener {
+
+        @Override
+        public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+            if (!partitions.isEmpty()) {
+                log.info("[Kafka] 입찰 파티션 회수 - {}", partitions);
+            }
+        }
+
+        @Override
+        public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+            if (!partitions.isEmpty()) {
+                log.info("[Kafka] 입찰 파티션 할당 - {}", partitions);
+            }
+        }
+
+        @Override
+        public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+            log.warn("[Kafka] 입찰 파티션 유실 - {}", partitions);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package ssafy.a303.backend.auction.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ssafy.a303.backend.auction.dto.response.BidDeadLetterDTO;
+import ssafy.a303.backend.auction.dto.response.BidDeadLetterReplayDTO;
+import ssafy.a303.backend.auction.dto.response.BidRecoveryStatusDTO;
+import ssafy.a303.backend.auction.service.BidDeadLetterService;
+import ssafy.a303.backend.auction.service.BidRecoveryService;
+import ssafy.a303.backend.common.response.ResponseDTO;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/auction/bid")
+@Tag(name = "입찰 관리", description = "입찰 랭킹 복구, DLT 재처리 등 운영용 API")
+public class AdminBidController {
+
+    private final BidRecoveryService bidRecoveryService;
+    private final BidDeadLetterService bidDeadLetterService;
+
+    @Operation(
+            summary = "입찰 랭킹 복구 시작",
+            description = """
+                    auction-bid 토픽을 다시 읽어 해당 경매의 Redis 입찰 랭킹을 재구성합니다.
+                    - fromOffset 을 주지 않으면 경매 시작 시각의 오프셋부터 읽습니다.
+                    - 복구는 비동기로 진행되며, 진행 상황은 조회 API 로 확인합니다.
+                    - 같은 입찰(bidId)은 한 번만 반영되므로 여러 번 실행해도 안전합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "복구 시작",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BidRecoveryStatusDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자(ADMIN) 권한 없음",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "해당 경매가 존재하지 않음",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "이미 정산이 끝난 경매",
+                    content = @Content()
+            )
+    })
+    @PostMapping("/{auctionSeq}/recovery")
+    public ResponseEntity<ResponseDTO<BidRecoveryStatusDTO>> recover(
+            @PathVariable int auctionSeq,
+            @RequestParam(required = false) Long fromOffset
+    ) {
+        BidRecoveryStatusDTO dto = bidRecoveryService.recoverAsync(auctionSeq, fromOffset);
+        return ResponseDTO.ok(dto, "복구를 시작하였습니다.");
+    }
+
+    @Operation(
+            summary = "입찰 랭킹 복구 진행 상황 조회",
+            description = "복구 중인(또는 마지막으로 복구한) 파티션, 오프셋 구간, 현재 오프셋, 재생한 입찰 수를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "진행 상황 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BidRecoveryStatusDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자(ADMIN) 권한 없음",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "해당 경매의 복구 기록이 없음",
+                    content = @Content()
+            )
+    })
+    @GetMapping("/{auctionSeq}/recovery")
+    public ResponseEntity<ResponseDTO<BidRecoveryStatusDTO>> getRecoveryStatus(@PathVariable int auctionSeq) {
+        BidRecoveryStatusDTO dto = bidRecoveryService.getStatus(auctionSeq);
+        return ResponseDTO.ok(dto, "복구 진행 상황을 조회하였습니다.");
+    }
+
+    @Operation(
+            summary = "입찰 DLT 조회",
+            description = """
+                    재시도 후에도 반영되지 못해 auction-bid-dlt 로 이동한 입찰 중 아직 재처리하지 않은 레코드를 조회합니다.
+                    - 실패한 토픽과 실패 원인을 함께 반환합니다.
+                    - 역직렬화에 실패한 레코드는 입찰 정보가 null 입니다.
+                    - size 는 최대 200 건입니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "DLT 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BidDeadLetterDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자(ADMIN) 권한 없음",
+                    content = @Content()
+            )
+    })
+    @GetMapping("/dlt")
+    public ResponseEntity<ResponseDTO<List<BidDeadLetterDTO>>> getDeadLetters(
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        List<BidDeadLetterDTO> list = bidDeadLetterService.findPending(size);
+        return ResponseDTO.ok(list, "DLT 를 조회하였습니다.");
+    }
+
+    @Operation(
+            summary = "입찰 DLT 재처리",
+            description = """
+                    아직 재처리하지 않은 DLT 레코드를 auction-bid 로 다시 보내고 처리 위치를 커밋합니다.
+                    - 이미 반영된 입찰(bidId)은 다시 반영되지 않습니다.
+                    - 그 사이 종료된 경매의 입찰은 반영되지 않습니다.
+                    - 역직렬화에 실패한 레코드는 건너뜁니다.
+                    - size 는 최대 1000 건입니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "재처리 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BidDeadLetterReplayDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자(ADMIN) 권한 없음",
+                    content = @Content()
+            )
+    })
+    @PostMapping("/dlt/replay")
+    public ResponseEntity<ResponseDTO<BidDeadLetterReplayDTO>> replayDeadLetters(
+            @RequestParam(defaultValue = "500") int size
+    ) {
+        BidDeadLetterReplayDTO dto = bidDeadLetterService.replay(size);
+        return ResponseDTO.ok(dto, "재처리되었습니다.");
+    }
+}
@@ -12,9 +12,14 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import ssafy.a303.backend.auction.dto.request.BidEventMessage;
 import ssafy.a303.backend.auction.dto.request.BidRequestDTO;
+import ssafy.a303.backend.auction.dto.response.AuctionResultDTO;
 import ssafy.a303.backend.auction.dto.response.BidAmountDTO;
+import ssafy.a303.backend.auction.dto.response.BidRankDTO;
+import ssafy.a303.backend.auction.dto.response.BidResultDTO;
 import ssafy.a303.backend.auction.dto.response.WinnerAcceptDTO;
 import ssafy.a303.backend.auction.kafka.BidEventProducer;
+import ssafy.a303.backend.auction.service.AuctionResultService;
+import ssafy.a303.backend.auction.service.BidRankService;
 import ssafy.a303.backend.auction.service.BidService;
 import ssafy.a303.backend.common.exception.CustomException;
 import ssafy.a303.backend.common.response.ErrorCode;
@@ -28,6 +33,8 @@ public class BidController {
 
     private final BidEventProducer producer;
     private final BidService bidService;
+    private final BidRankService bidRankService;
+    private final AuctionResultService auctionResultService;
 
     @PostMapping
     @Operation(
@@ -36,6 +43,7 @@ public class BidController {
                     현재 진행 중인 경매에 사용자의 입찰 정보를 전송합니다.
                     - 한 경매에 한 번만 입찰할 수 있습니다.
                     - 21억(2,147,483,647) 이상은 입찰할 수 없습니다.
+                    - 매물의 최저 입찰가 미만이거나 입찰 단위에 맞지 않는 금액은 입찰할 수 없습니다.
                     """
     )
     @ApiResponses({
@@ -46,7 +54,7 @@ public class BidController {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "잘못된 요청 (예: 21억 이상 입찰)",
+                    description = "잘못된 요청 (예: 21억 이상 입찰, 최저 입찰가 미만, 입찰 단위 불일치)",
                     content = @Content()
             ),
             @ApiResponse(
@@ -63,6 +71,11 @@ public class BidController {
                     responseCode = "409",
                     description = "이미 입찰한 사용자",
                     content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "짧은 시간에 입찰 요청이 너무 많음",
+                    content = @Content()
             )
     })
     public ResponseEntity<ResponseDTO<Void>> sendBid(
@@ -74,13 +87,76 @@ public class BidController {
         BidEventMessage msg = BidEventMessage.of(
                 bidRequestDTO.auctionSeq(),
                 userSeq,
-                bidRequestDTO.amount()
+                bidRequestDTO.amount(),
+                bidRequestDTO.bidId()
         );
 
         producer.sendBid(msg);
         return ResponseDTO.ok(null, "전송됨");
     }
 
+    @PostMapping("/sync")
+    @Operation(
+            summary = "경매 입찰 전송 (동기)",
+            description = """
+                    입찰을 전송하고 랭킹 반영 결과와 잠정 순위를 함께 응답받습니다.
+                    - ACCEPTED: 입찰 등록, DUPLICATE: 이미 입찰함, CLOSED: 진행 중인 경매가 아님
+                    - 제한 시간 안에 결과를 받지 못하면 PENDING 을 반환합니다. (입찰은 이후 반영될 수 있습니다)
+                    - 전송 자체에 실패하면 503 을 반환합니다. (입찰은 반영되지 않습니다)
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "입찰 처리 결과",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BidResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (예: 21억 이상 입찰, 최저 입찰가 미만, 입찰 단위 불일치)",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "해당 경매가 존재하지 않거나 진행 중이 아님",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "이미 입찰한 사용자",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "짧은 시간에 입찰 요청이 너무 많음",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "입찰을 Kafka 로 전송하지 못함 (반영되지 않았으므로 다시 시도)",
+                    content = @Content()
+            )
+    })
+    public ResponseEntity<ResponseDTO<BidResultDTO>> sendBidSync(
+            @AuthenticationPrincipal Integer userSeq,
+            @RequestBody BidRequestDTO bidRequestDTO
+    ) {
+        if (bidRequestDTO.amount() > Integer.MAX_VALUE) throw new CustomException(ErrorCode.AMOUNT_MAX_VALUE);
+
+        BidEventMessage msg = BidEventMessage.of(
+                bidRequestDTO.auctionSeq(),
+                userSeq,
+                bidRequestDTO.amount(),
+                bidRequestDTO.bidId()
+        );
+
+        BidResultDTO result = producer.sendBidAndWait(msg);
+        return ResponseDTO.ok(result, "처리되었습니다.");
+    }
+
     /* 낙찰 수락 거절 */
     @Operation(
             summary = "낙찰 수락",
@@ -172,4 +248,66 @@ public class BidController {
         BidAmountDTO bidAmountDTO = new BidAmountDTO(amount);
         return ResponseDTO.ok(bidAmountDTO, "경매를 조회하였습니다.");
     }
+
+    @Operation(
+            summary = "진행 중 경매 내 순위 조회",
+            description = """
+                    진행 중인 경매에서 나의 현재 순위와 1위와의 금액 차이를 조회합니다.
+                    - 경매 진행 중에만 조회할 수 있습니다.
+                    """
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "순위를 조회하였습니다.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BidRankDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "해당 입찰 정보를 찾을 수 없습니다.",
+                            content = @Content()
+                    )
+            }
+    )
+    @GetMapping("/{auctionSeq}/rank")
+    public ResponseEntity<ResponseDTO<BidRankDTO>> getMyRank(
+            @AuthenticationPrincipal int userSeq,
+            @PathVariable int auctionSeq) {
+        BidRankDTO dto = bidRankService.getMyRank(auctionSeq, userSeq);
+        return ResponseDTO.ok(dto, "순위를 조회하였습니다.");
+    }
+
+    @Operation(
+            summary = "종료된 경매 결과 조회",
+            description = """
+                    정산이 끝난 경매의 입찰자 수와 입찰 금액 통계(최고/최저/평균/중앙값)를 조회합니다.
+                    - 정산 시 기록한 결과 스냅샷을 반환합니다.
+                    """
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "경매 결과를 조회하였습니다.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AuctionResultDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "해당 경매가 존재하지 않거나 아직 정산되지 않음",
+                            content = @Content()
+                    )
+            }
+    )
+    @GetMapping("/{auctionSeq}/result")
+    public ResponseEntity<ResponseDTO<AuctionResultDTO>> getResult(@PathVariable int auctionSeq) {
+        AuctionResultDTO dto = auctionResultService.getResult(auctionSeq);
+        return ResponseDTO.ok(dto, "경매 결과를 조회하였습니다.");
+    }
 }
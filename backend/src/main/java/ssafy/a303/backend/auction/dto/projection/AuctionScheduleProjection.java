@@ -0,0 +1,10 @@
+package ssafy.a303.backend.auction.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface AuctionScheduleProjection {
+    int getAuctionSeq();
+    LocalDateTime getAuctionStartAt();
+    LocalDateTime getAuctionEndAt();
+    Integer getMinAuc();
+}
@@ -5,4 +5,5 @@ import java.time.LocalDateTime;
 public interface AuctionStartProjection {
     int getAuctionSeq();
     LocalDateTime getAuctionEndAt();
+    Integer getMinAuc();
 }
@@ -3,15 +3,26 @@ package ssafy.a303.backend.auction.dto.request;
 import ssafy.a303.backend.common.helper.KoreaClock;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
+/**
+ * 입찰 이벤트
+ * bidId : 입찰 1건의 고유 id (재전송/재처리 시 같은 입찰임을 식별). 이전 버전 메시지는 null.
+ */
 public record BidEventMessage(
         Integer auctionSeq,
         Integer userSeq,
         Long amount,
-        LocalDateTime bidAt
+        LocalDateTime bidAt,
+        UUID bidId
 ) {
     public static BidEventMessage of(Integer auctionSeq, Integer userSeq, Long amount) {
+        return of(auctionSeq, userSeq, amount, null);
+    }
+
+    // 클라이언트가 bidId 를 보내지 않았으면 서버에서 생성
+    public static BidEventMessage of(Integer auctionSeq, Integer userSeq, Long amount, UUID bidId) {
         LocalDateTime now = LocalDateTime.now(KoreaClock.getClock());
-        return new BidEventMessage(auctionSeq, userSeq, amount, now);
+        return new BidEventMessage(auctionSeq, userSeq, amount, now, bidId != null ? bidId : UUID.randomUUID());
     }
 }
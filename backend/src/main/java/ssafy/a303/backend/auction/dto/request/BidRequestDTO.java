@@ -2,11 +2,16 @@ package ssafy.a303.backend.auction.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.UUID;
+
 @Schema(description = "경매 입찰 요청 DTO")
 public record BidRequestDTO(
         @Schema(description = "입찰할 경매 번호", example = "123")
         int auctionSeq,
         @Schema(description = "입찰 금액(원 단위, 최대 21억 미만)", example = "500000")
-        long amount
+        long amount,
+        @Schema(description = "입찰 고유 id (선택, 재시도 시 같은 값을 보내면 한 번만 반영). 없으면 서버에서 생성",
+                example = "3f2b8c1e-6a4d-4e8f-9b1a-2c7d5e9f0a13", nullable = true)
+        UUID bidId
 ) {
 }
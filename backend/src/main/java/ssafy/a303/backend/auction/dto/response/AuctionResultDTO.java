@@ -0,0 +1,36 @@
+package ssafy.a303.backend.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.a303.backend.auction.entity.AuctionResult;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "종료된 경매 결과 응답 DTO")
+public record AuctionResultDTO(
+        @Schema(description = "경매 식별자", example = "1")
+        int auctionSeq,
+        @Schema(description = "전체 입찰자 수", example = "12")
+        int bidCount,
+        @Schema(description = "최고 입찰 금액", example = "1800000")
+        int maxAmount,
+        @Schema(description = "최저 입찰 금액", example = "900000")
+        int minAmount,
+        @Schema(description = "평균 입찰 금액", example = "1250000")
+        int avgAmount,
+        @Schema(description = "입찰 금액 중앙값", example = "1200000")
+        int medianAmount,
+        @Schema(description = "정산 시각")
+        LocalDateTime settledAt
+) {
+    public static AuctionResultDTO from(AuctionResult result) {
+        return new AuctionResultDTO(
+                result.getAuctionSeq(),
+                result.getBidCount(),
+                result.getMaxAmount(),
+                result.getMinAmount(),
+                result.getAvgAmount(),
+                result.getMedianAmount(),
+                result.getSettledAt()
+        );
+    }
+}
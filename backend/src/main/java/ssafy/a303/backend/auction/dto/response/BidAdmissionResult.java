@@ -0,0 +1,17 @@
+package ssafy.a303.backend.auction.dto.response;
+
+/**
+ * 입찰 등록 스크립트(Lua) 실행 결과
+ * - 스크립트 반환 코드와 ordinal 이 1:1 로 대응한다.
+ */
+public enum BidAdmissionResult {
+    ACCEPTED,   // 0 : 랭킹 등록 완료
+    DUPLICATE,  // 1 : 이미 입찰한 사용자
+    CLOSED,     // 2 : 진행 중인 경매가 아님
+    PENDING;    // 동기 입찰 응답 대기 시간 초과 (스크립트 반환값 아님, 처리 여부 미확정)
+
+    public static BidAdmissionResult fromCode(Long code) {
+        if (code == null) return CLOSED;
+        return values()[code.intValue()];
+    }
+}
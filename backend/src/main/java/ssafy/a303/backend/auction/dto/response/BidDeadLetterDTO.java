@@ -0,0 +1,29 @@
+package ssafy.a303.backend.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "입찰 DLT(auction-bid-dlt) 레코드")
+public record BidDeadLetterDTO(
+        @Schema(description = "DLT 파티션", example = "2")
+        int partition,
+        @Schema(description = "DLT 오프셋", example = "41")
+        long offset,
+        @Schema(description = "경매 번호 (역직렬화 실패 시 null)", example = "1")
+        Integer auctionSeq,
+        @Schema(description = "입찰자 번호 (역직렬화 실패 시 null)", example = "7")
+        Integer userSeq,
+        @Schema(description = "입찰 금액 (역직렬화 실패 시 null)", example = "1500000")
+        Long amount,
+        @Schema(description = "입찰 id")
+        UUID bidId,
+        @Schema(description = "입찰 시각")
+        LocalDateTime bidAt,
+        @Schema(description = "실패한 토픽", example = "auction-bid-retry")
+        String originalTopic,
+        @Schema(description = "실패 원인")
+        String exception
+) {
+}
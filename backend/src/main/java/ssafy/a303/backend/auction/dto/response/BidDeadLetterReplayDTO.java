@@ -0,0 +1,12 @@
+package ssafy.a303.backend.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "입찰 DLT 재처리 결과")
+public record BidDeadLetterReplayDTO(
+        @Schema(description = "auction-bid 로 다시 보낸 입찰 수", example = "12")
+        int replayed,
+        @Schema(description = "역직렬화 실패로 건너뛴 레코드 수", example = "1")
+        int skipped
+) {
+}
@@ -0,0 +1,27 @@
+package ssafy.a303.backend.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "진행 중 경매 실시간 순위표 (STOMP /sub/auction/{auctionSeq}/leaderboard)")
+public record BidLeaderboardDTO(
+        @Schema(description = "경매 번호", example = "1")
+        int auctionSeq,
+        @Schema(description = "상위 입찰 목록 (높은 금액 순)")
+        List<Entry> top,
+        @Schema(description = "전체 입찰자 수", example = "12")
+        int bidderCount,
+        @Schema(description = "순위표 생성 시각 (epoch millis)", example = "1731900000000")
+        long updatedAt
+) {
+    public record Entry(
+            @Schema(description = "순위 (1부터 시작)", example = "1")
+            int rank,
+            @Schema(description = "입찰자 번호", example = "7")
+            int userSeq,
+            @Schema(description = "입찰 금액", example = "1800000")
+            long amount
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package ssafy.a303.backend.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "진행 중 경매의 내 순위 조회 응답 DTO")
+public record BidRankDTO(
+        @Schema(description = "현재 나의 순위 (1부터 시작)", example = "3")
+        int rank,
+        @Schema(description = "나의 입찰 금액", example = "1500000")
+        long amount,
+        @Schema(description = "현재 1위 입찰 금액", example = "1800000")
+        long leaderAmount,
+        @Schema(description = "1위와의 금액 차이", example = "300000")
+        long gapToLeader,
+        @Schema(description = "전체 입찰자 수", example = "12")
+        int bidderCount
+) {
+}
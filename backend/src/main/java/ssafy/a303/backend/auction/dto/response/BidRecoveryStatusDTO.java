@@ -0,0 +1,33 @@
+package ssafy.a303.backend.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "입찰 랭킹 복구(auction-bid 로그 재생) 진행 상황")
+public record BidRecoveryStatusDTO(
+        @Schema(description = "경매 번호", example = "1")
+        int auctionSeq,
+        @Schema(description = "상태 (RUNNING, DONE, FAILED)", example = "RUNNING")
+        String status,
+        @Schema(description = "재생 중인 파티션", example = "3")
+        int partition,
+        @Schema(description = "재생 시작 오프셋", example = "10200")
+        long startOffset,
+        @Schema(description = "재생 종료 오프셋 (복구 시작 시점의 끝, 미포함)", example = "15800")
+        long endOffset,
+        @Schema(description = "다음에 읽을 오프셋", example = "12000")
+        long currentOffset,
+        @Schema(description = "이 경매의 입찰 레코드 수", example = "640")
+        long replayed,
+        @Schema(description = "랭킹에 새로 등록된 입찰 수", example = "320")
+        long admitted,
+        @Schema(description = "진행률 (0 ~ 100)", example = "32.1")
+        double percent
+) {
+    public static BidRecoveryStatusDTO of(int auctionSeq, String status, int partition, long startOffset,
+                                          long endOffset, long currentOffset, long replayed, long admitted) {
+        long total = endOffset - startOffset;
+        double percent = total <= 0 ? 100.0 : Math.min(100.0, (currentOffset - startOffset) * 100.0 / total);
+        return new BidRecoveryStatusDTO(auctionSeq, status, partition, startOffset, endOffset, currentOffset,
+                replayed, admitted, Math.round(percent * 10) / 10.0);
+    }
+}
@@ -0,0 +1,15 @@
+package ssafy.a303.backend.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "동기 입찰 처리 결과 DTO (auction-bid-reply 토픽 응답 메시지로도 사용)")
+public record BidResultDTO(
+        @Schema(description = "처리 결과 (ACCEPTED, DUPLICATE, CLOSED, PENDING)", example = "ACCEPTED")
+        BidAdmissionResult result,
+        @Schema(description = "잠정 순위 (ACCEPTED 일 때만, 1부터 시작)", example = "2")
+        Integer rank
+) {
+    public static BidResultDTO pending() {
+        return new BidResultDTO(BidAdmissionResult.PENDING, null);
+    }
+}
@@ -82,4 +82,10 @@ public class Auction {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    // 낙찰 수락 동시성 제어 (두 수락이 동시에 winnerSeq 를 쓰지 못하도록)
+    @Version
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version = 0L;
+
 }
@@ -0,0 +1,65 @@
+package ssafy.a303.backend.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 결과 스냅샷 (정산 시 1회 기록)
+ * - 입찰 수/금액 통계와 순위 계산에 필요한 값만 담고, 정산 이후 바뀌지 않는다.
+ * - 예외: 낙찰 제안 상태 변화 (후보 거절 시 rejectedMask, 낙찰 수락 시 contractSeq)
+ * - 내 순위(나보다 앞선 거절되지 않은 입찰 수)는 후보(0 ~ 9 등) 중에서만 나오므로 거절 여부를 비트로 들고 계산한다.
+ */
+@Entity
+@Table(name = "auction_result")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionResult {
+
+    // 낙찰 후보 (OFFERED/WAITING) 인원 - 정산 시 0 ~ 9 등만 순위를 받고 나머지는 LOST(999)
+    public static final int CANDIDATE_LIMIT = 10;
+
+    @Id
+    private Integer auctionSeq;
+
+    @Column(nullable = false)
+    private int bidCount;
+
+    @Column(nullable = false)
+    private int maxAmount;
+
+    @Column(nullable = false)
+    private int minAmount;
+
+    @Column(nullable = false)
+    private int avgAmount;
+
+    @Column(nullable = false)
+    private int medianAmount;
+
+    // i 번째 비트 = i 등 후보가 REJECTED
+    @Column(nullable = false)
+    private int rejectedMask;
+
+    // 낙찰 수락으로 생성된 계약
+    @Column
+    private Integer contractSeq;
+
+    @Column(nullable = false)
+    private LocalDateTime settledAt;
+
+    /**
+     * 해당 순위의 입찰보다 앞선, 거절되지 않은 입찰 수 (0 이면 최상위)
+     * @param rank 정산 순위 (0 ~ 9, LOST 는 999)
+     */
+    public int countAhead(Integer rank) {
+        if (rank == null) return 0;
+        int candidates = Math.min(bidCount, CANDIDATE_LIMIT);
+        int ahead = Math.min(rank, candidates);
+        int rejectedAhead = Integer.bitCount(rejectedMask & ((1 << ahead) - 1));
+        return ahead - rejectedAhead;
+    }
+}
@@ -7,7 +7,13 @@ import ssafy.a303.backend.user.entity.User;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bid")
+@Table(
+        name = "bid",
+        indexes = {
+                @Index(name = "idx_bid_auction_user", columnList = "auction_seq, user_seq", unique = true),
+                @Index(name = "idx_bid_offer_expires_at", columnList = "offer_expires_at"),
+                @Index(name = "idx_bid_status_auction_rank", columnList = "status, auction_seq, rank")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,4 +40,7 @@ public class Bid {
     private BidStatus status;
     @Column
     private LocalDateTime decidedAt;
+    // OFFERED 상태일 때 응답 마감 시각 (지나면 TIMEOUT 후 다음 순위에게 제안)
+    @Column
+    private LocalDateTime offerExpiresAt;
 }
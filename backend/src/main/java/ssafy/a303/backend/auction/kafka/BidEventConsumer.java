@@ -2,25 +2,130 @@ package ssafy.a303.backend.auction.kafka;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.stereotype.Service;
+import ssafy.a303.backend.auction.config.BidKafkaConfig;
 import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.dto.response.BidAdmissionResult;
+import ssafy.a303.backend.auction.dto.response.BidResultDTO;
 import ssafy.a303.backend.auction.service.BidRankService;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BidEventConsumer {
 
     private final BidRankService bidRankService;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final DeadLetterPublishingRecoverer bidDeadLetterRecoverer;
+
+    /*
+     * poll 한 번에 받은 레코드(파티션 순서 유지)를 묶어서 Redis 에 반영
+     * Redis 반영이 끝난 뒤에만 오프셋을 즉시 커밋한다. 반영 전에 죽으면 같은 레코드가 다시 오지만
+     * 입찰 스크립트가 bidId 로 재처리를 걸러내므로 중복 반영되지 않는다.
+     * Redis 반영이 실패하면 제자리에서 재시도하지 않고 배치를 재시도 토픽으로 넘긴 뒤 커밋한다. (파티션의 다른 경매가 멈추지 않도록)
+     * 역직렬화에 실패한 레코드는 재시도해도 소용없으므로 바로 DLT 로 보낸다.
+     */
     @KafkaListener(
             topics = "auction-bid",
-            groupId = "auction-bid-group"
+            groupId = "auction-bid-group",
+            containerFactory = BidKafkaConfig.BID_BATCH_LISTENER_FACTORY,
+            properties = "max.poll.records=${bid.kafka.max-poll-records:500}"
+    )
+    public void consume(List<ConsumerRecord<String, BidEventMessage>> records, Acknowledgment ack){
+        if (records.isEmpty()) {
+            ack.acknowledge();
+            return;
+        }
+        log.debug("[Kafka] 입찰 이벤트 배치 수신 - size={}", records.size());
+
+        List<ConsumerRecord<String, BidEventMessage>> valid = new ArrayList<>(records.size());
+        List<BidEventMessage> messages = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, BidEventMessage> record : records) {
+            if (record.value() == null) {
+                log.warn("[Kafka] 입찰 이벤트 역직렬화 실패 → DLT - partition={}, offset={}", record.partition(), record.offset());
+                bidDeadLetterRecoverer.accept(record, new IllegalArgumentException("입찰 이벤트 역직렬화 실패"));
+                continue;
+            }
+            valid.add(record);
+            messages.add(record.value());
+        }
+
+        List<BidAdmissionResult> results;
+        try {
+            results = bidRankService.updateRankingBatch(messages);
+        } catch (RuntimeException e) {
+            log.warn("[Kafka] 입찰 배치 반영 실패 → 재시도 토픽 - size={}, cause={}", valid.size(), e.getMessage());
+            for (ConsumerRecord<String, BidEventMessage> record : valid) {
+                bidDeadLetterRecoverer.accept(record, e);
+            }
+            ack.acknowledge();
+            return;
+        }
+        ack.acknowledge();
+        reply(valid, results);
+    }
+
+    /*
+     * 재시도 토픽 소비 (레코드 단위)
+     * 실패 시 지수 백오프로 재시도하고 끝내 실패하면 DLT 로 이동한다. (BidKafkaConfig.bidRetryListenerContainerFactory)
+     * 동기 입찰 응답은 이미 대기 시간이 지났으므로 보내지 않는다.
+     */
+    @KafkaListener(
+            topics = "auction-bid-retry",
+            groupId = "auction-bid-retry-group",
+            containerFactory = BidKafkaConfig.BID_RETRY_LISTENER_FACTORY
     )
-    public void consume(BidEventMessage message){
-        log.info("[Kafka] 입찰 이벤트 수신 - auctionSeq={}, userSeq={}, amount={}, bidAt={}"
-        ,message.auctionSeq(), message.userSeq(), message.amount(), message.bidAt());
+    public void consumeRetry(ConsumerRecord<String, BidEventMessage> record) {
+        BidEventMessage message = record.value();
+        BidAdmissionResult result = bidRankService.updateRanking(message);
+        log.info("[Kafka] 입찰 재시도 반영 - auctionSeq={}, userSeq={}, result={}",
+                message.auctionSeq(), message.userSeq(), result);
+    }
+
+    /* 동기 입찰(reply topic 헤더가 있는 레코드)에만 처리 결과 + 잠정 순위 응답 */
+    private void reply(List<ConsumerRecord<String, BidEventMessage>> records, List<BidAdmissionResult> results) {
+        List<Integer> replyIndexes = new ArrayList<>();
+        List<BidEventMessage> accepted = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).headers().lastHeader(KafkaHeaders.REPLY_TOPIC) == null) continue;
+            replyIndexes.add(i);
+            if (results.get(i) == BidAdmissionResult.ACCEPTED) {
+                accepted.add(records.get(i).value());
+            }
+        }
+        if (replyIndexes.isEmpty()) return;
+
+        List<Integer> ranks = bidRankService.getProvisionalRanks(accepted);
+        int rankCursor = 0;
+        for (Integer index : replyIndexes) {
+            ConsumerRecord<String, BidEventMessage> record = records.get(index);
+            BidAdmissionResult result = results.get(index);
+            Integer rank = result == BidAdmissionResult.ACCEPTED ? ranks.get(rankCursor++) : null;
+
+            Header replyTopic = record.headers().lastHeader(KafkaHeaders.REPLY_TOPIC);
+            Header correlationId = record.headers().lastHeader(KafkaHeaders.CORRELATION_ID);
+            if (correlationId == null) continue;
 
-        bidRankService.updateRanking(message);
+            ProducerRecord<Object, Object> reply = new ProducerRecord<>(
+                    new String(replyTopic.value(), StandardCharsets.UTF_8),
+                    null,
+                    record.key(),
+                    new BidResultDTO(result, rank)
+            );
+            reply.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.value());
+            kafkaTemplate.send(reply);
+        }
     }
 }
@@ -0,0 +1,21 @@
+package ssafy.a303.backend.auction.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+
+/* auction-bid 토픽 값 역직렬화 (BidEventCodec 바이너리 포맷) */
+public class BidEventDeserializer implements Deserializer<BidEventMessage> {
+
+    @Override
+    public BidEventMessage deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return BidEventCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("입찰 메시지 역직렬화 실패 - topic=" + topic, e);
+        }
+    }
+}
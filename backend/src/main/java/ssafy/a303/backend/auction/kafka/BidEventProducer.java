@@ -1,23 +1,64 @@
 package ssafy.a303.backend.auction.kafka;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.requestreply.KafkaReplyTimeoutException;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.kafka.requestreply.RequestReplyFuture;
 import org.springframework.stereotype.Service;
 import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.dto.response.BidResultDTO;
 import ssafy.a303.backend.auction.service.BidRankService;
+import ssafy.a303.backend.common.exception.CustomException;
+import ssafy.a303.backend.common.response.ErrorCode;
 
+import java.util.concurrent.ExecutionException;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BidEventProducer {
 
     private final BidRankService bidRankService;
-    private static final String TOPIC = "auction-bid";
-    private final KafkaTemplate<String, BidEventMessage> kafkaTemplate;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ReplyingKafkaTemplate<Object, Object, Object> replyingKafkaTemplate;
 
     public void sendBid(BidEventMessage message){
         bidRankService.check(message);
         String key = String.valueOf(message.auctionSeq());
-        kafkaTemplate.send(TOPIC, key, message);
+        kafkaTemplate.send(Topic.AUCTION_BID.getTopic(), key, message);
+    }
+
+    /**
+     * 동기 입찰: consumer 가 Redis 에 반영한 결과(등록/중복/종료 + 잠정 순위)를 응답 토픽으로 받아 반환
+     * 응답 대기 시간(bid.kafka.reply-timeout-ms)을 넘기면 PENDING 을 반환한다. (입찰은 이후에 반영될 수 있음)
+     * Kafka 전송 자체가 실패하면 입찰이 반영될 일이 없으므로 BID_SEND_FAILED 로 알린다.
+     */
+    public BidResultDTO sendBidAndWait(BidEventMessage message) {
+        bidRankService.check(message);
+        String key = String.valueOf(message.auctionSeq());
+        ProducerRecord<Object, Object> record = new ProducerRecord<>(Topic.AUCTION_BID.getTopic(), key, message);
+
+        RequestReplyFuture<Object, Object, Object> future = replyingKafkaTemplate.sendAndReceive(record);
+        try {
+            ConsumerRecord<Object, Object> reply = future.get();
+            return (BidResultDTO) reply.value();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof KafkaReplyTimeoutException) {
+                log.warn("[Kafka] 동기 입찰 응답 시간 초과 - auctionSeq={}, userSeq={}",
+                        message.auctionSeq(), message.userSeq());
+                return BidResultDTO.pending();
+            }
+            log.error("[Kafka] 동기 입찰 전송 실패 - auctionSeq={}, userSeq={}, cause={}",
+                    message.auctionSeq(), message.userSeq(), e.getCause().getMessage());
+            throw new CustomException(ErrorCode.BID_SEND_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BidResultDTO.pending();
+        }
     }
 
 }
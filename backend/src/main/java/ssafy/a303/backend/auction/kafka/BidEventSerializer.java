@@ -0,0 +1,16 @@
+package ssafy.a303.backend.auction.kafka;
+
+import org.apache.kafka.common.serialization.Serializer;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+
+/* auction-bid 토픽 값 직렬화 (BidEventCodec 바이너리 포맷) */
+public class BidEventSerializer implements Serializer<BidEventMessage> {
+
+    @Override
+    public byte[] serialize(String topic, BidEventMessage data) {
+        if (data == null) {
+            return null;
+        }
+        return BidEventCodec.encode(data);
+    }
+}
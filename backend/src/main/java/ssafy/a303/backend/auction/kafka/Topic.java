@@ -7,6 +7,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum Topic {
     AUCTION_BID("auction-bid"),
+    AUCTION_BID_REPLY("auction-bid-reply"),
+    AUCTION_BID_RETRY("auction-bid-retry"),
+    AUCTION_BID_DLT("auction-bid-dlt"),
     ;
     private final String topic;
 }
@@ -0,0 +1,121 @@
+package ssafy.a303.backend.auction.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중 경매 노드 로컬 캐시 (auctionSeq → 종료 시각 epoch millis + 입찰 하한)
+ * - 진행 여부는 경매 시작/종료 시점에만 바뀌므로 입찰마다 Redis 를 조회하지 않고 로컬에서 판단한다.
+ * - 종료는 저장된 종료 시각으로 로컬에서 판단하고, 시작/조기 종료/취소는 auction:in-progress 채널로 전 노드에 전파된다.
+ * - 진행 중이 아닌 경매도 negative-ttl-ms 동안 기억해, 종료/없는 경매로 들어오는 입찰이 매번 Redis 를 조회하지 않게 한다.
+ *   (START 메시지나 로컬 등록이 오면 바로 지워지므로 TTL 은 시작 메시지가 유실됐을 때의 최대 지연일 뿐이다)
+ * - 경매가 닫힌 것을 알게 되면(END 메시지, 종료 시각 경과, 원본 확인) 그 경매의 입찰자 캐시(KnownBidderCache)도 비운다.
+ * 메시지 형식: "START:{auctionSeq}:{endEpochMillis}:{minAmount}:{amountUnit}" | "END:{auctionSeq}"
+ * (입찰 하한이 없는 이전 형식 START 메시지는 하한 없음으로 처리)
+ */
+@Slf4j
+@Component
+public class AuctionInProgressCache implements MessageListener {
+
+    public static final String CHANNEL = "auction:in-progress";
+
+    // 없는 경매 번호로 반복 요청해도 무한히 쌓이지 않도록, 이 크기를 넘으면 만료된 항목을 정리한다
+    private static final int CLOSED_PRUNE_SIZE = 10_000;
+
+    private final Map<Integer, Running> running = new ConcurrentHashMap<>();
+    // 진행 중이 아닌 경매 → 이 판단을 믿을 수 있는 시각 epoch millis
+    private final Map<Integer, Long> closed = new ConcurrentHashMap<>();
+    private final KnownBidderCache knownBidderCache;
+    private final long negativeTtlMillis;
+
+    public AuctionInProgressCache(KnownBidderCache knownBidderCache,
+                                  @Value("${bid.in-progress.negative-ttl-ms:1000}") long negativeTtlMillis) {
+        this.knownBidderCache = knownBidderCache;
+        this.negativeTtlMillis = negativeTtlMillis;
+    }
+
+    /**
+     * @return 진행 중이면 true, 종료됐으면 false, 캐시에 없으면 null (원본 확인 필요)
+     */
+    public Boolean isInProgress(int auctionSeq) {
+        long now = System.currentTimeMillis();
+        Running entry = running.get(auctionSeq);
+        if (entry != null) {
+            if (now < entry.endEpochMillis()) return true;
+            running.remove(auctionSeq, entry);
+            markClosed(auctionSeq);
+            return false;
+        }
+
+        Long closedUntil = closed.get(auctionSeq);
+        if (closedUntil == null) return null;
+        if (now < closedUntil) return false;
+        closed.remove(auctionSeq, closedUntil);
+        return null;
+    }
+
+    /**
+     * @return 진행 중인 경매의 입찰 하한, 캐시에 없으면 null
+     */
+    public BidReserve reserveOf(int auctionSeq) {
+        Running entry = running.get(auctionSeq);
+        return entry == null ? null : entry.reserve();
+    }
+
+    public void put(int auctionSeq, long endEpochMillis, BidReserve reserve) {
+        running.put(auctionSeq, new Running(endEpochMillis, reserve));
+        closed.remove(auctionSeq);
+    }
+
+    /* 원본(Redis)에서 진행 중이 아님을 확인했을 때 - 그 사이 시작 메시지로 등록됐으면 진행 중 항목이 우선한다 */
+    public void markClosed(int auctionSeq) {
+        knownBidderCache.forget(auctionSeq);
+        if (negativeTtlMillis <= 0) return;
+
+        long now = System.currentTimeMillis();
+        if (closed.size() >= CLOSED_PRUNE_SIZE) {
+            closed.values().removeIf(until -> until <= now);
+        }
+        closed.put(auctionSeq, now + negativeTtlMillis);
+    }
+
+    public void evict(int auctionSeq) {
+        running.remove(auctionSeq);
+        markClosed(auctionSeq);
+    }
+
+    static String startMessage(int auctionSeq, long endEpochMillis, BidReserve reserve) {
+        return "START:" + auctionSeq + ":" + endEpochMillis + ":" + reserve.encode();
+    }
+
+    static String endMessage(int auctionSeq) {
+        return "END:" + auctionSeq;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":");
+            int auctionSeq = Integer.parseInt(parts[1]);
+            switch (parts[0]) {
+                case "START" -> put(auctionSeq, Long.parseLong(parts[2]),
+                        parts.length >= 5 ? BidReserve.decode(parts[3] + ":" + parts[4]) : BidReserve.NONE);
+                case "END" -> evict(auctionSeq);
+                default -> log.warn("[InProgressCache] 알 수 없는 메시지: {}", body);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[InProgressCache] 메시지 처리 실패: {}", body, e);
+        }
+    }
+
+    private record Running(long endEpochMillis, BidReserve reserve) {
+    }
+}
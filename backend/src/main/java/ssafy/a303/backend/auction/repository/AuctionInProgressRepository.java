@@ -2,29 +2,102 @@ package ssafy.a303.backend.auction.repository;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import ssafy.a303.backend.common.helper.KoreaClock;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * 진행 중 경매
+ * - Redis 키(auction-in-progress::auction::{seq}) 가 원본이며 종료 시각에 만료된다. (입찰 Lua 스크립트가 이 키를 확인)
+ * - 키 값에는 입찰 하한(BidReserve: 최저 입찰가 Property.minAuc + 입찰 단위 bid.amount-unit)을 함께 기록한다.
+ * - 조회는 노드 로컬 캐시(AuctionInProgressCache)에서 처리하고, 시작/종료 시 auction:in-progress 채널로 전 노드 캐시를 갱신한다.
+ * - 키는 입찰 스크립트와 같은 샤드(BidRedisRouter)에 두고, 채널은 샤드와 무관하게 DB4 를 사용한다.
+ */
 @Slf4j
 @Repository
 public class AuctionInProgressRepository {
     private static final String KEY_FORMAT = "auction-in-progress::auction::%s";
+
+    /*
+     * KEYS[1] = auction-in-progress
+     * return "{남은 TTL(ms)}:{입찰 하한}" (키가 없으면 nil)
+     */
+    private static final RedisScript<String> LOOKUP_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+                return nil
+            end
+            return redis.call('PTTL', KEYS[1]) .. ':' .. value
+            """, String.class);
+
     private final StringRedisTemplate redis;
+    private final BidRedisRouter router;
+    private final AuctionInProgressCache cache;
+    private final long amountUnit;
 
-    public AuctionInProgressRepository(@Qualifier("bidRedisTemplate") StringRedisTemplate redis) {
+    public AuctionInProgressRepository(@Qualifier("bidRedisTemplate") StringRedisTemplate redis,
+                                       BidRedisRouter router,
+                                       AuctionInProgressCache cache,
+                                       @Value("${bid.amount-unit:1}") long amountUnit) {
         this.redis = redis;
+        this.router = router;
+        this.cache = cache;
+        this.amountUnit = amountUnit;
     }
 
-    public void enrollAuctionInProgress(int auctionSeq, LocalDateTime auctionEndAt) {
-        redis.opsForValue().setIfAbsent(generateKey(auctionSeq), String.valueOf(auctionSeq), life(auctionEndAt));
+    /**
+     * @param minAuc 매물의 최저 입찰가 (없으면 null)
+     */
+    public void enrollAuctionInProgress(int auctionSeq, LocalDateTime auctionEndAt, Integer minAuc) {
+        Duration life = life(auctionEndAt);
+        if (life.isNegative() || life.isZero()) return;
+
+        BidReserve reserve = BidReserve.of(minAuc, amountUnit);
+        router.forAuction(auctionSeq).opsForValue().setIfAbsent(generateKey(auctionSeq), reserve.encode(), life);
+
+        long endEpochMillis = auctionEndAt.atZone(KoreaClock.getClock().getZone()).toInstant().toEpochMilli();
+        cache.put(auctionSeq, endEpochMillis, reserve);
+        redis.convertAndSend(AuctionInProgressCache.CHANNEL, AuctionInProgressCache.startMessage(auctionSeq, endEpochMillis, reserve));
     }
 
+    /**
+     * 로컬 캐시로 판단 (네트워크 없음)
+     * 캐시에 없을 때만(시작 메시지 유실, 노드 신규 기동 등) Redis 표식 값과 남은 TTL 로 확인하고 캐시에 채운다.
+     * 진행 중이 아니면 그 결과도 잠깐(bid.in-progress.negative-ttl-ms) 캐시한다.
+     */
     public boolean checkAuctionInProgress(int auctionSeq) {
-        return redis.opsForValue().get(generateKey(auctionSeq)) != null;
+        Boolean cached = cache.isInProgress(auctionSeq);
+        if (cached != null) return cached;
+
+        // 표식 값과 남은 TTL 을 한 번에 조회 (1 round trip)
+        String found = router.forAuction(auctionSeq).execute(LOOKUP_SCRIPT, List.of(generateKey(auctionSeq)));
+        int separator = found == null ? -1 : found.indexOf(':');
+        long ttl = separator < 0 ? -1 : Long.parseLong(found.substring(0, separator));
+        if (ttl <= 0) {
+            cache.markClosed(auctionSeq);
+            return false;
+        }
+
+        cache.put(auctionSeq, System.currentTimeMillis() + ttl, BidReserve.decode(found.substring(separator + 1)));
+        return true;
+    }
+
+    /**
+     * 진행 중인 경매의 입찰 하한 (checkAuctionInProgress 가 true 를 반환한 뒤 호출하면 로컬 캐시에서 바로 반환)
+     */
+    public BidReserve getReserve(int auctionSeq) {
+        BidReserve reserve = cache.reserveOf(auctionSeq);
+        if (reserve == null && checkAuctionInProgress(auctionSeq)) {
+            reserve = cache.reserveOf(auctionSeq);
+        }
+        return reserve == null ? BidReserve.NONE : reserve;
     }
 
     // 발표를 위해 종료 날짜 받을 수 있도록 수정 11.18
@@ -34,11 +107,14 @@ public class AuctionInProgressRepository {
         return Duration.between(now, auctionEndAt);
     }
 
-    private String generateKey(int auctionSeq) {
+    static String generateKey(int auctionSeq) {
         return KEY_FORMAT.formatted(auctionSeq);
     }
 
+    // 경매 종료/취소 시 호출 → 전 노드 캐시에서도 제거
     public void deleteKey(int auctionSeq) {
-        redis.delete(generateKey(auctionSeq));
+        router.forAuction(auctionSeq).delete(generateKey(auctionSeq));
+        cache.evict(auctionSeq);
+        redis.convertAndSend(AuctionInProgressCache.CHANNEL, AuctionInProgressCache.endMessage(auctionSeq));
     }
 }
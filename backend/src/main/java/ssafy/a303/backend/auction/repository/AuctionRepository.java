@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.a303.backend.auction.dto.projection.AuctionScheduleProjection;
 import ssafy.a303.backend.auction.dto.projection.AuctionStartProjection;
 import ssafy.a303.backend.auction.dto.response.BrkApplicantResponseDto;
 import ssafy.a303.backend.auction.entity.Auction;
@@ -96,7 +98,8 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer> {
 
     @Query(value = """
             select a.auctionSeq as auctionSeq,
-            a.auctionEndAt as auctionEndAt
+            a.auctionEndAt as auctionEndAt,
+            a.property.minAuc as minAuc
             from Auction a
             where
                 a.status = 'ACCEPTED'
@@ -106,6 +109,29 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer> {
     )
     List<AuctionStartProjection> findAuctionWhatToStart(@Param("now") LocalDateTime now);
 
+    /**
+     * 타이머에 예약할 경매 (until 이전에 시작되는, 아직 종료 처리되지 않은 경매)
+     */
+    @Query(value = """
+            select a.auctionSeq as auctionSeq,
+            a.auctionStartAt as auctionStartAt,
+            a.auctionEndAt as auctionEndAt,
+            a.property.minAuc as minAuc
+            from Auction a
+            where
+                a.status = 'ACCEPTED'
+                and a.finish = false
+                and a.auctionStartAt <= :until
+            """
+    )
+    List<AuctionScheduleProjection> findAuctionWhatToSchedule(@Param("until") LocalDateTime until);
+
+    /**
+     * 경매 매물의 최저 입찰가 (진행 표식 등록용)
+     */
+    @Query("select a.property.minAuc from Auction a where a.auctionSeq = :auctionSeq")
+    Integer findMinAucByAuctionSeq(@Param("auctionSeq") int auctionSeq);
+
     @Query(value = """
             select a.auctionSeq
             from Auction a
@@ -117,6 +143,7 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer> {
     )
     List<Integer> findAuctionWhatAreEnd(@Param("now") LocalDateTime now);
 
+    @Transactional
     @Modifying(clearAutomatically = true)
     @Query(value = """
             update Auction a
@@ -126,16 +153,27 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer> {
             """)
     int updateFinishByAuctionSeqIn(@Param("auctionSeqs") List<Integer> auctionSeqs);
 
-    @Query("""
-        select a
-        from Auction a
-        where a.finish = true
-          and a.winnerSeq is null
-        """)
-    List<Auction> findFinishedWithoutWinner();
+    /**
+     * 남은 낙찰 후보(OFFERED / WAITING / ACCEPTED)가 없는 종료 경매 유찰 처리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            update auction a
+            set winner_seq = -1,
+                version = a.version + 1
+            where a.finish = true
+                and a.winner_seq is null
+                and not exists (
+                    select 1
+                    from bid b
+                    where b.auction_seq = a.auction_seq
+                        and b.status in ('OFFERED', 'WAITING', 'ACCEPTED')
+                )
+            """, nativeQuery = true)
+    int updateNoWinner();
 
     /**
-     * 나의 경매 참여 내역 + 각 경매에서의 실제 순위까지 한 번에 조회하는 쿼리
+     * 나의 경매 참여 내역 조회 (나보다 앞선 사람 수는 경매 결과 스냅샷의 거절 비트로 계산 - AuctionResult.countAhead)
      * <p>
      * 반환 컬럼:
      * 0: thumbnail (매물 썸네일)
@@ -144,7 +182,7 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer> {
      * 3: bidStatus (입찰 상태)
      * 4: address (매물 주소)
      * 5: bidAmount (입찰 금액)
-     * 6: bidRank (해당 경매에서 나보다 앞선 사람 수)
+     * 6: rank (정산 순위, 0 ~ 9 / LOST 999)
      * <p>
      * 정렬: 경매 방송 시작 시간 기준 최신순 (방송 날짜 내림차순 → 시작 시간 내림차순)
      */
@@ -155,13 +193,7 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer> {
                    b.status as bidStatus,
                    auc.property.address as address,
                    b.bidAmount as bidAmount,
-                   (
-                       SELECT COUNT(b2)
-                       FROM Bid b2
-                       WHERE b2.auction.auctionSeq = b.auction.auctionSeq
-                         AND b2.status != 'REJECTED'
-                         AND b2.rank < b.rank
-                   ) as bidRank
+                   b.rank as bidRank
             FROM Bid b
             JOIN b.auction auc
             WHERE b.user.userSeq = :userSeq
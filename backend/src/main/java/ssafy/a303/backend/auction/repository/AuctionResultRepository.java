@@ -0,0 +1,74 @@
+package ssafy.a303.backend.auction.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.a303.backend.auction.entity.AuctionResult;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AuctionResultRepository extends JpaRepository<AuctionResult, Integer> {
+
+    List<AuctionResult> findByAuctionSeqIn(Collection<Integer> auctionSeqs);
+
+    /**
+     * 정산이 끝났는데 스냅샷이 없는 경매 (스냅샷 도입 전 정산분 채우기용)
+     */
+    @Query(value = """
+            select a.auction_seq
+            from auction a
+            where a.finish = true
+                and not exists (select 1 from auction_result r where r.auction_seq = a.auction_seq)
+            order by a.auction_seq
+            limit :limit
+            """, nativeQuery = true)
+    List<Integer> findFinishedWithoutSnapshot(@Param("limit") int limit);
+
+    /**
+     * bid 테이블에서 경매 결과 스냅샷 생성 (집계 1회)
+     * 이미 있으면 그대로 둔다 - 정산 재개/중복 호출에도 처음 기록한 결과가 유지된다.
+     * 스냅샷 도입 전에 정산된 경매도 같은 쿼리로 채우므로 그 사이 거절된 후보도 반영한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into auction_result (auction_seq, bid_count, max_amount, min_amount, avg_amount, median_amount,
+                                        rejected_mask, contract_seq, settled_at)
+            select :auctionSeq,
+                   count(*),
+                   coalesce(max(b.bid_amount), 0),
+                   coalesce(min(b.bid_amount), 0),
+                   coalesce(cast(round(avg(b.bid_amount)) as int), 0),
+                   coalesce(cast(percentile_cont(0.5) within group (order by b.bid_amount) as int), 0),
+                   coalesce(cast(sum(case when b.status = 'REJECTED' and b.rank < 10 then 1 << b.rank else 0 end) as int), 0),
+                   null,
+                   :settledAt
+            from bid b
+            where b.auction_seq = :auctionSeq
+            on conflict (auction_seq) do nothing
+            """, nativeQuery = true)
+    int insertSnapshot(@Param("auctionSeq") int auctionSeq, @Param("settledAt") LocalDateTime settledAt);
+
+    /**
+     * 후보 거절 반영 (동시 거절도 잃지 않도록 비트 OR 로 갱신)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update auction_result
+            set rejected_mask = rejected_mask | (1 << :rank)
+            where auction_seq = :auctionSeq
+            """, nativeQuery = true)
+    int markRejected(@Param("auctionSeq") int auctionSeq, @Param("rank") int rank);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update auction_result
+            set contract_seq = :contractSeq
+            where auction_seq = :auctionSeq
+            """, nativeQuery = true)
+    int updateContractSeq(@Param("auctionSeq") int auctionSeq, @Param("contractSeq") int contractSeq);
+}
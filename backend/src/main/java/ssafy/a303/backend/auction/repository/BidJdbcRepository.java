@@ -0,0 +1,47 @@
+package ssafy.a303.backend.auction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ssafy.a303.backend.auction.entity.BidStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * bid 테이블 대량 적재 전용 (JDBC batch)
+ * Bid 엔티티는 IDENTITY 전략이라 Hibernate 가 insert 를 batch 로 묶지 못하므로 정산은 JDBC 로 직접 적재한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BidJdbcRepository {
+
+    /*
+     * 같은 청크를 다시 적재해도(정산 재개) 중복 행이 생기지 않도록 (auction_seq, user_seq) 유니크 인덱스 충돌은 무시한다.
+     * insert ... values 형태여야 reWriteBatchedInserts 가 여러 행을 한 문장으로 묶는다. (insert ... select 는 묶지 못함)
+     */
+    private static final String INSERT_SQL = """
+            insert into bid (user_seq, auction_seq, bid_at, bid_amount, rank, status, offer_expires_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on conflict (auction_seq, user_seq) do nothing
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record BidRow(int userSeq, LocalDateTime bidAt, int bidAmount, int rank, BidStatus status,
+                         LocalDateTime offerExpiresAt) {
+    }
+
+    public void batchInsert(int auctionSeq, List<BidRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.userSeq());
+            ps.setInt(2, auctionSeq);
+            ps.setTimestamp(3, Timestamp.valueOf(row.bidAt()));
+            ps.setInt(4, row.bidAmount());
+            ps.setInt(5, row.rank());
+            ps.setString(6, row.status().name());
+            ps.setTimestamp(7, row.offerExpiresAt() == null ? null : Timestamp.valueOf(row.offerExpiresAt()));
+        });
+    }
+}
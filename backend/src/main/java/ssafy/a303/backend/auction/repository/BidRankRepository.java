@@ -1,70 +1,368 @@
 package ssafy.a303.backend.auction.repository;
 
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.dto.response.BidAdmissionResult;
+import ssafy.a303.backend.auction.dto.response.BidLeaderboardDTO;
+import ssafy.a303.backend.auction.dto.response.BidRankDTO;
+import ssafy.a303.backend.auction.kafka.BidEventCodec;
 import ssafy.a303.backend.common.helper.DataSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.BiFunction;
 
+/**
+ * 경매별 입찰 랭킹
+ * - bid::auction::{seq}         : ZSET (member = userSeq, score = 입찰액)
+ * - bid-payload::auction::{seq} : HASH (field = userSeq, value = 입찰 메시지, bid.serde 에 따라 바이너리(Base64) 또는 JSON)
+ * - bid-id::auction::{seq}      : SET  (반영된 "userSeq:bidId", 재처리 판별용)
+ * member 를 userSeq 로 두어 사용자 단건 조회/순위 조회를 O(log n) 으로 처리한다.
+ * 경매의 키는 모두 같은 샤드(BidRedisRouter)에 있고, 여러 경매를 묶어 보낼 때는 샤드별로 파이프라인 1회씩 보낸다.
+ */
 @Repository
 public class BidRankRepository {
     private static final String KEY_FORMAT = "bid::auction::%s";
-    private final StringRedisTemplate redis;
+    private static final String PAYLOAD_KEY_FORMAT = "bid-payload::auction::%s";
+    private static final String BID_ID_KEY_FORMAT = "bid-id::auction::%s";
 
-    public BidRankRepository(@Qualifier("bidRedisTemplate") StringRedisTemplate redis) {
-        this.redis = redis;
+    /*
+     * 재처리 확인 → 진행 여부 확인 → 중복 입찰 등록(SADD) → 랭킹 등록(ZADD, HSET) → 처리한 bidId 기록 을 한 번의 호출로 원자적으로 처리
+     * KEYS[1] = auction-in-progress, KEYS[2] = bid-try, KEYS[3] = bid rank, KEYS[4] = bid payload, KEYS[5] = bid id
+     * ARGV[1] = userSeq, ARGV[2] = payload, ARGV[3] = score, ARGV[4] = "userSeq:bidId" ('' 이면 이전 버전 메시지),
+     * ARGV[5] = '1' 이면 진행 여부 확인 생략 (로그 재생 복구용 - 이미 한 번 통과했던 입찰)
+     * return 0 = ACCEPTED, 1 = DUPLICATE, 2 = CLOSED
+     * 이미 반영된 bidId 가 다시 들어오면(재전송, 리밸런스/장애 후 재소비) 아무것도 바꾸지 않고 처음과 같은 ACCEPTED 를 돌려준다.
+     * bidId 는 클라이언트가 만든 값이므로 사용자 번호와 묶어 기록한다. (다른 사람의 bidId 로 보내 ACCEPTED 를 받아내지 못하도록)
+     */
+    private static final RedisScript<Long> ADMISSION_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[4] ~= '' and redis.call('SISMEMBER', KEYS[5], ARGV[4]) == 1 then
+                return 0
+            end
+            if ARGV[5] ~= '1' and redis.call('EXISTS', KEYS[1]) == 0 then
+                return 2
+            end
+            if redis.call('SADD', KEYS[2], ARGV[1]) == 0 then
+                return 1
+            end
+            redis.call('ZADD', KEYS[3], ARGV[3], ARGV[1])
+            redis.call('HSET', KEYS[4], ARGV[1], ARGV[2])
+            if ARGV[4] ~= '' then
+                redis.call('SADD', KEYS[5], ARGV[4])
+            end
+            return 0
+            """, Long.class);
+    private static final int ADMISSION_KEY_COUNT = 5;
+
+    private final BidRedisRouter router;
+    private final boolean binaryPayload;
+
+    public BidRankRepository(BidRedisRouter router,
+                             @Value("${bid.serde:binary}") String serde) {
+        this.router = router;
+        this.binaryPayload = "binary".equalsIgnoreCase(serde);
     }
 
-    // 저장
-    public void updateScore(BidEventMessage message) {
-        String json = DataSerializer.serialize(message);
-        redis.opsForZSet().add(
-                generateKey(message.auctionSeq()),
-                json,
-                message.amount().doubleValue()
+    // 진행 확인 + 중복 확인 + 저장 (1 round trip)
+    public BidAdmissionResult admit(BidEventMessage message) {
+        Long code = router.forAuction(message.auctionSeq()).execute(
+                ADMISSION_SCRIPT,
+                admissionKeys(message.auctionSeq()),
+                (Object[]) admissionArgs(message, false)
         );
+        return BidAdmissionResult.fromCode(code);
+    }
+
+    /**
+     * 여러 입찰을 파이프라인으로 한 번에 등록 (요청 순서 = 실행 순서)
+     * 스크립트 캐시가 비어 있으면(NOSCRIPT) 스크립트를 적재한 뒤 한 번 재시도한다.
+     */
+    public List<BidAdmissionResult> admitAll(List<BidEventMessage> messages) {
+        return admitAll(messages, false);
+    }
+
+    /* 복구(로그 재생)용 - 진행 여부와 무관하게 등록 (bidId 로 이미 반영된 입찰은 건너뜀) */
+    public List<BidAdmissionResult> replayAll(List<BidEventMessage> messages) {
+        return admitAll(messages, true);
     }
 
-    // TOP N 조회
+    private List<BidAdmissionResult> admitAll(List<BidEventMessage> messages, boolean replay) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        return perShard(messages, (redis, shardMessages) -> admitOnShard(redis, shardMessages, replay));
+    }
+
+    private List<BidAdmissionResult> admitOnShard(StringRedisTemplate redis, List<BidEventMessage> messages, boolean replay) {
+        try {
+            return pipelineAdmission(redis, messages, replay);
+        } catch (DataAccessException e) {
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (cause == null || !cause.contains("NOSCRIPT")) {
+                throw e;
+            }
+            redis.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(
+                            ADMISSION_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            return pipelineAdmission(redis, messages, replay);
+        }
+    }
+
+    /**
+     * 샤드별로 나눠 처리한 뒤 입력 순서대로 합친다 (샤드 안에서는 입력 순서 유지)
+     * 샤드가 하나면 나누지 않는다.
+     */
+    private <T> List<T> perShard(List<BidEventMessage> messages,
+                                 BiFunction<StringRedisTemplate, List<BidEventMessage>, List<T>> action) {
+        if (router.size() == 1) {
+            return action.apply(router.shard(0), messages);
+        }
+
+        Map<Integer, List<Integer>> byShard = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            byShard.computeIfAbsent(router.shardOf(messages.get(i).auctionSeq()), k -> new ArrayList<>()).add(i);
+        }
+
+        List<T> results = new ArrayList<>(Collections.nCopies(messages.size(), null));
+        byShard.forEach((shard, indexes) -> {
+            List<BidEventMessage> shardMessages = new ArrayList<>(indexes.size());
+            for (Integer index : indexes) {
+                shardMessages.add(messages.get(index));
+            }
+            List<T> shardResults = action.apply(router.shard(shard), shardMessages);
+            for (int i = 0; i < indexes.size(); i++) {
+                results.set(indexes.get(i), shardResults.get(i));
+            }
+        });
+        return results;
+    }
+
+    private List<BidAdmissionResult> pipelineAdmission(StringRedisTemplate redis, List<BidEventMessage> messages, boolean replay) {
+        String sha = ADMISSION_SCRIPT.getSha1();
+        List<Object> codes = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (BidEventMessage message : messages) {
+                List<String> keysAndArgs = new ArrayList<>(admissionKeys(message.auctionSeq()));
+                keysAndArgs.addAll(List.of(admissionArgs(message, replay)));
+                conn.evalSha(sha, ReturnType.INTEGER, ADMISSION_KEY_COUNT, keysAndArgs.toArray(String[]::new));
+            }
+            return null;
+        });
+
+        List<BidAdmissionResult> results = new ArrayList<>(codes.size());
+        for (Object code : codes) {
+            results.add(BidAdmissionResult.fromCode((Long) code));
+        }
+        return results;
+    }
+
+    private static List<String> admissionKeys(int auctionSeq) {
+        return List.of(
+                AuctionInProgressRepository.generateKey(auctionSeq),
+                BidTryCountRepository.generateKey(auctionSeq),
+                generateKey(auctionSeq),
+                generatePayloadKey(auctionSeq),
+                generateBidIdKey(auctionSeq)
+        );
+    }
+
+    private String[] admissionArgs(BidEventMessage message, boolean replay) {
+        return new String[]{
+                String.valueOf(message.userSeq()),
+                encodePayload(message),
+                String.valueOf(message.amount().doubleValue()),
+                bidIdMember(message),
+                replay ? "1" : "0"
+        };
+    }
+
+    // bid-id 집합 member - 사용자 범위로 한정한 bidId
+    private static String bidIdMember(BidEventMessage message) {
+        return message.bidId() == null ? "" : message.userSeq() + ":" + message.bidId();
+    }
+
+    // TOP N 조회 (userSeq)
     public Set<String> getTopUsers(Integer auctionSeq, int limit) {
-        return redis.opsForZSet().reverseRange(
+        return router.forAuction(auctionSeq).opsForZSet().reverseRange(
                 generateKey(auctionSeq),
                 0,
                 limit - 1
         );
     }
 
-    // TOP N 이후 조회
+    // TOP N 이후 조회 (userSeq)
     public Set<String> getRestUsers(Integer auctionSeq, int limit) {
-        return redis.opsForZSet().reverseRange(
+        return router.forAuction(auctionSeq).opsForZSet().reverseRange(
                 generateKey(auctionSeq),
                 limit,
                 -1
         );
     }
 
+    // 순위 구간 [start, end] 의 입찰 메시지 조회 (높은 금액 순)
+    public List<BidEventMessage> getRange(Integer auctionSeq, long start, long end) {
+        Set<String> userSeqs = router.forAuction(auctionSeq).opsForZSet().reverseRange(generateKey(auctionSeq), start, end);
+        return getPayloads(auctionSeq, userSeqs);
+    }
+
+    // userSeq 목록의 입찰 메시지 조회 (순서 유지)
+    public List<BidEventMessage> getPayloads(Integer auctionSeq, Collection<String> userSeqs) {
+        if (userSeqs == null || userSeqs.isEmpty()) {
+            return List.of();
+        }
+        List<Object> values = router.forAuction(auctionSeq).opsForHash().multiGet(
+                generatePayloadKey(auctionSeq),
+                new ArrayList<>(userSeqs)
+        );
+
+        List<BidEventMessage> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null) {
+                result.add(decodePayload((String) value));
+            }
+        }
+        return result;
+    }
+
     public BidEventMessage getUser(Integer auctionSeq, int userSeq) {
-        Set<String> set = redis.opsForZSet().reverseRange(generateKey(auctionSeq), 0, -1);
-        if (set == null || set.isEmpty()) {
+        Object value = router.forAuction(auctionSeq).opsForHash().get(generatePayloadKey(auctionSeq), String.valueOf(userSeq));
+        if (value == null) {
             return null;
         }
+        return decodePayload((String) value);
+    }
+
+    private String encodePayload(BidEventMessage message) {
+        return binaryPayload ? BidEventCodec.encodeToString(message) : DataSerializer.serialize(message);
+    }
+
+    // 저장 당시 모드와 무관하게 읽을 수 있도록 JSON('{' 로 시작) 여부로 판별
+    private BidEventMessage decodePayload(String value) {
+        if (value.startsWith("{")) {
+            return DataSerializer.deserialize(value, BidEventMessage.class);
+        }
+        return BidEventCodec.decodeFromString(value);
+    }
 
-        for (String msg : set) {
-            BidEventMessage data = DataSerializer.deserialize(msg, BidEventMessage.class);
-            if (data.userSeq() == userSeq) {
-                return data;
+    // 입찰들의 현재 순위 조회 (1부터, 랭킹에 없으면 null) - 파이프라인 1회
+    public List<Integer> getRanks(List<BidEventMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        return perShard(messages, (redis, shardMessages) -> {
+            List<Object> ranks = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (BidEventMessage message : shardMessages) {
+                    conn.zRevRank(generateKey(message.auctionSeq()), String.valueOf(message.userSeq()));
+                }
+                return null;
+            });
+
+            List<Integer> result = new ArrayList<>(ranks.size());
+            for (Object rank : ranks) {
+                result.add(rank == null ? null : ((Long) rank).intValue() + 1);
             }
+            return result;
+        });
+    }
+
+    /**
+     * 내 순위 / 1위와의 차이 조회
+     * ZREVRANK, ZSCORE, ZREVRANGE 0 0, ZCARD 를 파이프라인으로 한 번에 전송한다.
+     */
+    public BidRankDTO getStanding(Integer auctionSeq, int userSeq) {
+        String key = generateKey(auctionSeq);
+        String member = String.valueOf(userSeq);
+
+        List<Object> results = router.forAuction(auctionSeq).executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.zRevRank(key, member);
+            conn.zScore(key, member);
+            conn.zRevRangeWithScores(key, 0, 0);
+            conn.zCard(key);
+            return null;
+        });
+
+        Long rank = (Long) results.get(0);
+        Double score = (Double) results.get(1);
+        if (rank == null || score == null) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<ZSetOperations.TypedTuple<String>> leader = (Set<ZSetOperations.TypedTuple<String>>) results.get(2);
+        long leaderAmount = leader.isEmpty()
+                ? score.longValue()
+                : leader.iterator().next().getScore().longValue();
+        Long bidderCount = (Long) results.get(3);
+
+        return new BidRankDTO(
+                rank.intValue() + 1,
+                score.longValue(),
+                leaderAmount,
+                leaderAmount - score.longValue(),
+                bidderCount == null ? 0 : bidderCount.intValue()
+        );
+    }
+
+    /**
+     * 상위 N 명 순위표 조회
+     * ZREVRANGE WITHSCORES, ZCARD 를 파이프라인으로 한 번에 전송한다.
+     */
+    public BidLeaderboardDTO getLeaderboard(Integer auctionSeq, int size) {
+        String key = generateKey(auctionSeq);
+
+        List<Object> results = router.forAuction(auctionSeq).executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.zRevRangeWithScores(key, 0, size - 1L);
+            conn.zCard(key);
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        Set<ZSetOperations.TypedTuple<String>> top = (Set<ZSetOperations.TypedTuple<String>>) results.get(0);
+        Long bidderCount = (Long) results.get(1);
+
+        List<BidLeaderboardDTO.Entry> entries = new ArrayList<>(top.size());
+        int rank = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : top) {
+            entries.add(new BidLeaderboardDTO.Entry(
+                    rank++,
+                    Integer.parseInt(tuple.getValue()),
+                    tuple.getScore().longValue()
+            ));
         }
-        return null;
+        return new BidLeaderboardDTO(
+                auctionSeq,
+                entries,
+                bidderCount == null ? 0 : bidderCount.intValue(),
+                System.currentTimeMillis()
+        );
     }
 
-    private String generateKey(int auctionSeq) {
+    static String generateKey(int auctionSeq) {
         return KEY_FORMAT.formatted(auctionSeq);
     }
 
+    static String generatePayloadKey(int auctionSeq) {
+        return PAYLOAD_KEY_FORMAT.formatted(auctionSeq);
+    }
+
+    static String generateBidIdKey(int auctionSeq) {
+        return BID_ID_KEY_FORMAT.formatted(auctionSeq);
+    }
+
     public void deleteKey(int auctionSeq) {
-        redis.delete(generateKey(auctionSeq));
+        router.forAuction(auctionSeq).delete(List.of(generateKey(auctionSeq), generatePayloadKey(auctionSeq), generateBidIdKey(auctionSeq)));
     }
 }
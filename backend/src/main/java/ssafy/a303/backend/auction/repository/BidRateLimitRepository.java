@@ -0,0 +1,61 @@
+package ssafy.a303.backend.auction.repository;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자별 입찰 요청 토큰 버킷 (여러 서버 간 기준)
+ * - bid-rate::auction::{auctionSeq}::user::{userSeq} : HASH (t = 남은 토큰, ts = 마지막 갱신 시각 ms)
+ * - 시각은 Redis 서버 시간(TIME)을 사용해 서버 간 시계 차이의 영향을 받지 않는다.
+ */
+@Repository
+public class BidRateLimitRepository {
+
+    private static final String KEY_FORMAT = "bid-rate::auction::%s::user::%s";
+
+    /*
+     * ARGV[1] = 버킷 용량, ARGV[2] = 초당 충전 토큰 수, ARGV[3] = 키 만료(ms)
+     * return 1 = 허용, 0 = 거절
+     */
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local perMs = tonumber(ARGV[2]) / 1000
+            local tokens = tonumber(redis.call('HGET', KEYS[1], 't'))
+            local ts = tonumber(redis.call('HGET', KEYS[1], 'ts'))
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * perMs)
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return allowed
+            """, Long.class);
+
+    private final BidRedisRouter router;
+
+    public BidRateLimitRepository(BidRedisRouter router) {
+        this.router = router;
+    }
+
+    public boolean tryAcquire(int auctionSeq, int userSeq, int capacity, double perSecond, long ttlMillis) {
+        Long allowed = router.forAuction(auctionSeq).execute(
+                TOKEN_BUCKET_SCRIPT,
+                List.of(KEY_FORMAT.formatted(auctionSeq, userSeq)),
+                String.valueOf(capacity),
+                String.valueOf(perSecond),
+                String.valueOf(ttlMillis)
+        );
+        return allowed != null && allowed == 1L;
+    }
+}
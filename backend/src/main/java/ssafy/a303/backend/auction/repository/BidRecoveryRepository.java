@@ -0,0 +1,78 @@
+package ssafy.a303.backend.auction.repository;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 입찰 Redis 유실 감지용 표식 + 경매별 복구 대기 목록
+ * - bid-redis::sentinel : 만료 없이 기록해 두고, 이 키가 사라졌으면 DB 가 비워졌거나(FLUSHDB) 장애 조치로 데이터가 유실된 것으로 본다.
+ *   샤드마다 따로 기록하므로 샤드 하나만 유실되거나 새 샤드가 추가되어도 감지된다.
+ * - bid-recovery::pending : 유실된 샤드에서 로그 재생이 끝나지 않은 경매 (SET, member = auctionSeq, 경매와 같은 샤드)
+ *   유실을 감지하면 대상 경매를 모두 여기에 넣은 뒤 표식을 기록하고, 경매마다 복구가 끝나면 뺀다.
+ *   목록도 같은 샤드에 있으므로 다시 유실되면 표식과 함께 사라져 처음부터 다시 감지된다.
+ */
+@Repository
+public class BidRecoveryRepository {
+
+    private static final String SENTINEL_KEY = "bid-redis::sentinel";
+    private static final String PENDING_KEY = "bid-recovery::pending";
+
+    private final BidRedisRouter router;
+
+    public BidRecoveryRepository(BidRedisRouter router) {
+        this.router = router;
+    }
+
+    /**
+     * @return 표식이 없는 샤드 번호
+     */
+    public List<Integer> lostShards() {
+        List<Integer> lost = new ArrayList<>();
+        for (int i = 0; i < router.size(); i++) {
+            if (!Boolean.TRUE.equals(router.shard(i).hasKey(SENTINEL_KEY))) {
+                lost.add(i);
+            }
+        }
+        return lost;
+    }
+
+    public void markSentinel(List<Integer> shards) {
+        String now = String.valueOf(System.currentTimeMillis());
+        for (Integer shard : shards) {
+            router.shard(shard).opsForValue().set(SENTINEL_KEY, now);
+        }
+    }
+
+    /**
+     * 경매 랭킹을 믿을 수 있는지 (경매 샤드에 표식이 있고, 복구 대기 중이 아님)
+     */
+    public boolean isRecovered(int auctionSeq) {
+        StringRedisTemplate redis = router.forAuction(auctionSeq);
+        return Boolean.TRUE.equals(redis.hasKey(SENTINEL_KEY))
+                && !Boolean.TRUE.equals(redis.opsForSet().isMember(PENDING_KEY, String.valueOf(auctionSeq)));
+    }
+
+    public void markPending(int auctionSeq) {
+        router.forAuction(auctionSeq).opsForSet().add(PENDING_KEY, String.valueOf(auctionSeq));
+    }
+
+    public void clearPending(int auctionSeq) {
+        router.forAuction(auctionSeq).opsForSet().remove(PENDING_KEY, String.valueOf(auctionSeq));
+    }
+
+    public List<Integer> findPending() {
+        List<Integer> pending = new ArrayList<>();
+        for (StringRedisTemplate redis : router.all()) {
+            Set<String> members = redis.opsForSet().members(PENDING_KEY);
+            if (members == null) continue;
+            for (String member : members) {
+                pending.add(Integer.valueOf(member));
+            }
+        }
+        return pending;
+    }
+}
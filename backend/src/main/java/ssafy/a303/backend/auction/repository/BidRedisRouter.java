@@ -0,0 +1,107 @@
+package ssafy.a303.backend.auction.repository;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 입찰 Redis 샤드 라우터 (auctionSeq 기준 consistent hashing)
+ * - 한 경매의 키(bid::, bid-payload::, bid-id::, bid-try::, auction-in-progress::, bid-settle::, bid-rate::)는 모두 같은 샤드에 있으므로
+ *   입찰 스크립트/파이프라인은 경매당 1 round trip 을 유지한다.
+ * - 샤드마다 가상 노드를 두어 경매를 고르게 나누고, 샤드를 추가/제거해도 약 1/N 의 경매만 옮겨진다.
+ *   (옮겨진 진행 중 경매는 새 샤드에 유실 표식이 없으므로 BidRecoveryService 가 로그 재생으로 채운다)
+ * - 설정은 RedisConfig (bid.redis.shards) 참고. 비어 있으면 기존 DB4 하나만 사용한다.
+ */
+public class BidRedisRouter implements DisposableBean {
+
+    private static final int VIRTUAL_NODES = 160;
+
+    private final List<StringRedisTemplate> shards = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<RedisConnectionFactory> owned = new ArrayList<>();
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    /**
+     * @param shards 샤드 이름(host:port/db) → 템플릿. 이름이 같으면 재시작해도 같은 경매가 같은 샤드로 간다.
+     * @param owned  라우터가 직접 만든 연결 (종료 시 정리)
+     */
+    public BidRedisRouter(Map<String, StringRedisTemplate> shards, List<RedisConnectionFactory> owned) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("입찰 Redis 샤드가 하나 이상 필요합니다.");
+        }
+        shards.forEach((name, template) -> {
+            int index = this.shards.size();
+            this.shards.add(template);
+            this.names.add(name);
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                ring.put(md5(name + "#" + v), index);
+            }
+        });
+        this.owned.addAll(owned);
+    }
+
+    public StringRedisTemplate forAuction(int auctionSeq) {
+        return shards.get(shardOf(auctionSeq));
+    }
+
+    public int shardOf(int auctionSeq) {
+        if (shards.size() == 1) return 0;
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(mix(auctionSeq));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    public StringRedisTemplate shard(int index) {
+        return shards.get(index);
+    }
+
+    public List<StringRedisTemplate> all() {
+        return shards;
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    public String name(int index) {
+        return names.get(index);
+    }
+
+    @Override
+    public void destroy() {
+        for (RedisConnectionFactory factory : owned) {
+            if (factory instanceof LettuceConnectionFactory lettuce) {
+                lettuce.destroy();
+            }
+        }
+    }
+
+    // 조회마다 호출되므로 해시 함수 대신 비트 섞기 (SplitMix64)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long md5(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
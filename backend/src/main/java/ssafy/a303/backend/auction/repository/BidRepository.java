@@ -1,9 +1,13 @@
 package ssafy.a303.backend.auction.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssafy.a303.backend.auction.entity.Bid;
 import ssafy.a303.backend.auction.entity.BidStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,68 @@ public interface BidRepository extends JpaRepository<Bid, Integer> {
 
     List<Bid> findByAuction_AuctionSeq(Integer auctionSeq);
 
-    List<Bid> findByAuction_AuctionSeqAndRankLessThanOrderByRankAsc(Integer auctionSeq, Integer rankLimit);
+    /**
+     * 낙찰 확정 시 같은 경매의 나머지 입찰 일괄 LOST 처리 (입찰자 수와 무관하게 UPDATE 1회)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update bid
+            set status = 'LOST',
+                decided_at = :now
+            where auction_seq = :auctionSeq
+                and bid_seq <> :bidSeq
+                and status <> 'ACCEPTED'
+            """, nativeQuery = true)
+    int updateLostExcept(@Param("auctionSeq") int auctionSeq,
+                         @Param("bidSeq") int bidSeq,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            update bid
+            set offer_expires_at = :expiresAt
+            where status = 'OFFERED'
+                and offer_expires_at is null
+            """, nativeQuery = true)
+    int fillMissingOfferExpiresAt(@Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 응답 마감이 지난 제안 만료 처리 (idx_bid_offer_expires_at)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            update bid
+            set status = 'TIMEOUT',
+                decided_at = :now
+            where offer_expires_at <= :now
+                and status = 'OFFERED'
+            """, nativeQuery = true)
+    int timeoutExpiredOffers(@Param("now") LocalDateTime now);
+
+    /**
+     * 진행 중인 제안이 없는, 우승자 미정 경매마다 가장 높은 순위의 WAITING 입찰에게 제안
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            update bid
+            set status = 'OFFERED',
+                offer_expires_at = :expiresAt
+            where bid_seq in (
+                select distinct on (w.auction_seq) w.bid_seq
+                from bid w
+                join auction a on a.auction_seq = w.auction_seq
+                where w.status = 'WAITING'
+                    and a.finish = true
+                    and a.winner_seq is null
+                    and not exists (
+                        select 1
+                        from bid o
+                        where o.auction_seq = w.auction_seq
+                            and o.status in ('OFFERED', 'ACCEPTED')
+                    )
+                order by w.auction_seq, w.rank
+            )
+            """, nativeQuery = true)
+    int offerNextRank(@Param("expiresAt") LocalDateTime expiresAt);
 
 }
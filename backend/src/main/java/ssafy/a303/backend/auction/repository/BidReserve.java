@@ -0,0 +1,40 @@
+package ssafy.a303.backend.auction.repository;
+
+/**
+ * 진행 중 경매의 입찰 하한 (최저 입찰가 Property.minAuc + 입찰 단위)
+ * - 경매 시작 시 진행 표식 값과 노드 로컬 캐시에 함께 기록하여, Kafka 전송 전에 네트워크 없이 걸러낸다.
+ * 표식 값 형식: "{minAmount}:{amountUnit}"
+ */
+public record BidReserve(long minAmount, long amountUnit) {
+
+    // 최저 입찰가가 없는 매물, 또는 이전 버전 표식(값 = auctionSeq)
+    public static final BidReserve NONE = new BidReserve(0, 1);
+
+    public static BidReserve of(Integer minAuc, long amountUnit) {
+        return new BidReserve(minAuc == null ? 0 : Math.max(0, minAuc), Math.max(1, amountUnit));
+    }
+
+    public boolean isBelowMin(long amount) {
+        return amount < minAmount;
+    }
+
+    public boolean matchesUnit(long amount) {
+        return amount % amountUnit == 0;
+    }
+
+    String encode() {
+        return minAmount + ":" + amountUnit;
+    }
+
+    static BidReserve decode(String value) {
+        if (value == null) return NONE;
+        int colon = value.indexOf(':');
+        if (colon < 0) return NONE;
+        try {
+            return new BidReserve(Long.parseLong(value.substring(0, colon)),
+                    Math.max(1, Long.parseLong(value.substring(colon + 1))));
+        } catch (NumberFormatException e) {
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ssafy.a303.backend.auction.repository;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 경매 종료 정산 진행 상태
+ * - bid-settle::auction::{seq}      : 다음에 정산할 ZSET 위치 (중간에 노드가 죽어도 이어서 정산)
+ * - bid-settle-lock::auction::{seq} : 정산 중인 노드 표시 (여러 노드가 같은 경매를 동시에 정산하지 않도록)
+ */
+@Repository
+public class BidSettlementRepository {
+
+    private static final String CURSOR_KEY_FORMAT = "bid-settle::auction::%s";
+    private static final String LOCK_KEY_FORMAT = "bid-settle-lock::auction::%s";
+    private static final String OWNER = UUID.randomUUID().toString();
+
+    /*
+     * KEYS[1] = 락, ARGV[1] = 내 OWNER
+     * GET 과 DEL 사이에 락이 만료되어 다른 노드가 잡으면 그 락을 지우게 되므로 비교와 삭제를 한 번에 한다.
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /*
+     * KEYS[1] = 락, ARGV[1] = 내 OWNER, ARGV[2] = TTL(ms)
+     * 내 락일 때만 연장 (이미 다른 노드가 잡은 락은 건드리지 않는다)
+     */
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final BidRedisRouter router;
+
+    public BidSettlementRepository(BidRedisRouter router) {
+        this.router = router;
+    }
+
+    public boolean tryLock(int auctionSeq, Duration ttl) {
+        Boolean locked = router.forAuction(auctionSeq).opsForValue().setIfAbsent(generateLockKey(auctionSeq), OWNER, ttl);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    // 청크마다 락 만료 시간 연장 (정산이 오래 걸려도 다른 노드가 끼어들지 않도록)
+    public void extendLock(int auctionSeq, Duration ttl) {
+        router.forAuction(auctionSeq).execute(EXTEND_SCRIPT, List.of(generateLockKey(auctionSeq)),
+                OWNER, String.valueOf(ttl.toMillis()));
+    }
+
+    public void unlock(int auctionSeq) {
+        router.forAuction(auctionSeq).execute(UNLOCK_SCRIPT, List.of(generateLockKey(auctionSeq)), OWNER);
+    }
+
+    public int getCursor(int auctionSeq) {
+        String value = router.forAuction(auctionSeq).opsForValue().get(generateCursorKey(auctionSeq));
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    public void saveCursor(int auctionSeq, int cursor) {
+        router.forAuction(auctionSeq).opsForValue().set(generateCursorKey(auctionSeq), String.valueOf(cursor));
+    }
+
+    static String generateCursorKey(int auctionSeq) {
+        return CURSOR_KEY_FORMAT.formatted(auctionSeq);
+    }
+
+    static String generateLockKey(int auctionSeq) {
+        return LOCK_KEY_FORMAT.formatted(auctionSeq);
+    }
+
+    // 정산 커서만 지운다 - 락은 unlock 에서 내 락일 때만 지운다
+    public void deleteKey(int auctionSeq) {
+        router.forAuction(auctionSeq).delete(generateCursorKey(auctionSeq));
+    }
+}
@@ -1,37 +1,27 @@
 package ssafy.a303.backend.auction.repository;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class BidTryCountRepository {
 
     private static final String KEY_FORMAT = "bid-try::auction::%s";
-    private final StringRedisTemplate redis;
+    private final BidRedisRouter router;
 
-    public BidTryCountRepository(@Qualifier("bidRedisTemplate") StringRedisTemplate redis) {
-        this.redis = redis;
-    }
-
-    public boolean tryFirstBid(int auctionSeq, int userSeq) {
-        String key = generateKey(auctionSeq);
-        String member = String.valueOf(userSeq);
-
-        Long result = redis.opsForSet().add(key, member);
-        return result != null && result == 1L;
+    public BidTryCountRepository(BidRedisRouter router) {
+        this.router = router;
     }
 
     public boolean hasAlreadyBid(int userSeq, int auctionSeq) {
         String key = generateKey(auctionSeq);
         String member = String.valueOf(userSeq);
-        return redis.opsForSet().isMember(key, member);
+        return Boolean.TRUE.equals(router.forAuction(auctionSeq).opsForSet().isMember(key, member));
     }
 
-    private String generateKey(int auctionSeq) {
+    static String generateKey(int auctionSeq) {
         return KEY_FORMAT.formatted(auctionSeq);
     }
     public void deleteKey(int auctionSeq){
-        redis.delete(generateKey(auctionSeq));
+        router.forAuction(auctionSeq).delete(generateKey(auctionSeq));
     }
 }
@@ -0,0 +1,39 @@
+package ssafy.a303.backend.auction.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경매별 이미 입찰한 사용자 노드 로컬 캐시 (auctionSeq → userSeq 비트셋)
+ * - bid-try 집합(BidTryCountRepository)에서 확인된 사용자와 consumer 가 등록/중복 처리한 사용자만 기록한다.
+ * - 비트셋은 오탐이 없으므로, 여기 있는 사용자는 Redis/Kafka 를 거치지 않고 바로 ALREADY_BID 로 거절해도 안전하다.
+ */
+@Component
+public class KnownBidderCache {
+
+    private final Map<Integer, BitSet> bidders = new ConcurrentHashMap<>();
+
+    public boolean contains(int auctionSeq, int userSeq) {
+        BitSet set = bidders.get(auctionSeq);
+        if (set == null || userSeq < 0) return false;
+        synchronized (set) {
+            return set.get(userSeq);
+        }
+    }
+
+    public void add(int auctionSeq, int userSeq) {
+        if (userSeq < 0) return;
+        BitSet set = bidders.computeIfAbsent(auctionSeq, k -> new BitSet());
+        synchronized (set) {
+            set.set(userSeq);
+        }
+    }
+
+    // 경매가 끝나면 비운다 (AuctionInProgressCache 가 종료를 알게 된 시점에 호출)
+    public void forget(int auctionSeq) {
+        bidders.remove(auctionSeq);
+    }
+}
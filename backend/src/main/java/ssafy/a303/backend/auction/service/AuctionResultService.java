@@ -0,0 +1,76 @@
+package ssafy.a303.backend.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.a303.backend.auction.dto.response.AuctionResultDTO;
+import ssafy.a303.backend.auction.entity.AuctionResult;
+import ssafy.a303.backend.auction.repository.AuctionResultRepository;
+import ssafy.a303.backend.common.exception.CustomException;
+import ssafy.a303.backend.common.helper.KoreaClock;
+import ssafy.a303.backend.common.response.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 결과 스냅샷 조회
+ * 스냅샷은 정산(BidSettlementService)에서 기록한다. 스냅샷 도입 전에 정산된 경매는 기동 시 한 번 채운다. (backfillSnapshots)
+ * 조회는 스냅샷을 쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionResultService {
+
+    private static final int BACKFILL_CHUNK = 500;
+
+    private final AuctionResultRepository auctionResultRepository;
+
+    @Transactional(readOnly = true)
+    public AuctionResultDTO getResult(int auctionSeq) {
+        AuctionResult result = auctionResultRepository.findById(auctionSeq)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUCTION_RESULT_NOT_FOUND));
+        return AuctionResultDTO.from(result);
+    }
+
+    /**
+     * 여러 경매의 스냅샷 (auctionSeq → 스냅샷, 스냅샷이 없는 경매는 빠진다)
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, AuctionResult> getSnapshots(Collection<Integer> auctionSeqs) {
+        Map<Integer, AuctionResult> snapshots = new HashMap<>();
+        if (auctionSeqs.isEmpty()) return snapshots;
+
+        for (AuctionResult result : auctionResultRepository.findByAuctionSeqIn(auctionSeqs)) {
+            snapshots.put(result.getAuctionSeq(), result);
+        }
+        return snapshots;
+    }
+
+    /**
+     * 스냅샷 없이 정산이 끝난 경매(스냅샷 도입 전 정산분)를 bid 테이블로 채운다.
+     * - 정산은 스냅샷을 기록한 뒤에 finish 를 세우므로 대상은 이전 정산분뿐이고, 다 채운 뒤에는 빈 조회 한 번으로 끝난다.
+     * - insertSnapshot 은 이미 있으면 그대로 두므로 여러 인스턴스가 동시에 돌아도 안전하다.
+     * @return 채운 경매 수
+     */
+    public int backfillSnapshots() {
+        LocalDateTime now = LocalDateTime.now(KoreaClock.getClock());
+        int filled = 0;
+        while (true) {
+            List<Integer> missing = auctionResultRepository.findFinishedWithoutSnapshot(BACKFILL_CHUNK);
+            if (missing.isEmpty()) break;
+
+            for (Integer auctionSeq : missing) {
+                auctionResultRepository.insertSnapshot(auctionSeq, now);
+            }
+            filled += missing.size();
+            log.info("[AuctionResult] 이전 정산 경매 스냅샷 채움 - {}건", filled);
+        }
+        return filled;
+    }
+}
@@ -2,19 +2,19 @@ package ssafy.a303.backend.auction.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ssafy.a303.backend.auction.dto.projection.AuctionScheduleProjection;
 import ssafy.a303.backend.auction.dto.projection.AuctionStartProjection;
-import ssafy.a303.backend.auction.entity.Auction;
-import ssafy.a303.backend.auction.entity.Bid;
-import ssafy.a303.backend.auction.entity.BidStatus;
 import ssafy.a303.backend.auction.repository.AuctionInProgressRepository;
 import ssafy.a303.backend.auction.repository.AuctionRepository;
 import ssafy.a303.backend.auction.repository.BidRepository;
 import ssafy.a303.backend.common.helper.KoreaClock;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -24,103 +24,101 @@ import java.util.concurrent.TimeUnit;
 public class AuctionScheduler {
     private final AuctionRepository auctionRepository;
     private final AuctionInProgressRepository auctionInProgressRepository;
-    private final BidRankService bidRankService;
+    private final BidSettlementService bidSettlementService;
     private final BidRepository bidRepository;
+    private final AuctionTimer auctionTimer;
+    private final BidRecoveryService bidRecoveryService;
+
+    // 보정 주기보다 충분히 길어야 보정 사이에 시작/종료되는 경매를 놓치지 않는다
+    @Value("${auction.timer.horizon-seconds:3600}")
+    private long horizonSeconds;
+
+    // 낙찰 제안 응답 시간
+    @Value("${auction.offer.window-minutes:60}")
+    private long offerWindowMinutes;
+
+    /*
+     * 경매 시작/종료는 AuctionTimer 가 정확한 시각에 실행하고, 아래 보정 작업은 안전망으로만 낮은 주기로 돈다.
+     * - 앞으로 horizon 안에 시작/종료될 경매를 타이머에 예약
+     * - 서버 재시작 등으로 타이머가 놓친 시작/종료를 처리
+     * - 입찰 Redis 가 유실되었으면 auction-bid 로그로 랭킹 복구를 요청한다 (복구 스레드에서 실행, 복구 전 경매는 정산하지 않음)
+     */
+    @Scheduled(
+            initialDelayString = "${auction.timer.initial-delay-seconds:5}",
+            fixedDelayString = "${auction.timer.reconcile-seconds:300}",
+            timeUnit = TimeUnit.SECONDS)
+    public void reconcile() {
+        bidRecoveryService.requestCheck();
+        scheduleUpcomingAuctions();
+        enrollAuctionInProgress();
+        endAuctionProcess();
+    }
 
-    /* 주기적으로 시작되어야할 경매를 redis에 등록 */
-    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS) // 10초
-    @Transactional
-    public void enrollAuctionInProgress() {
+    /* horizon 안에 시작 또는 종료되는 경매를 타이머에 예약 */
+    private void scheduleUpcomingAuctions() {
+        LocalDateTime until = LocalDateTime.now(KoreaClock.getClock()).plusSeconds(horizonSeconds);
+        List<AuctionScheduleProjection> list = auctionRepository.findAuctionWhatToSchedule(until);
+        for (AuctionScheduleProjection a : list) {
+            auctionTimer.schedule(a.getAuctionSeq(), a.getAuctionStartAt(), a.getAuctionEndAt(), a.getMinAuc());
+        }
+        log.info("[AuctionTimer] 예약된 경매 수: {}", auctionTimer.size());
+    }
+
+    /* 시작되었어야 할 경매를 redis에 등록 (이미 등록된 경매는 그대로 유지) */
+    private void enrollAuctionInProgress() {
         LocalDateTime now = LocalDateTime.now(KoreaClock.getClock());
         List<AuctionStartProjection> list = auctionRepository.findAuctionWhatToStart(now);
         if(list.isEmpty()) return;
 
-        log.info(String.format(">>>>>>>>>>>> 경매 시작 %s", list));
         for (AuctionStartProjection a : list) {
-            auctionInProgressRepository.enrollAuctionInProgress(a.getAuctionSeq(), a.getAuctionEndAt());
+            auctionInProgressRepository.enrollAuctionInProgress(a.getAuctionSeq(), a.getAuctionEndAt(), a.getMinAuc());
         }
     }
 
-    /* 종료되어야할 경매 처리 */
+    /* 종료되었어야 할 경매 처리 */
     // @Scheduled(cron = "0 0 12 * * *", zone = "Asia/Seoul")
-    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
-    @Transactional
-    public void endAuctionProcess() {
+    // 정산은 청크 단위로 커밋되어야 재개가 가능하므로 전체를 하나의 트랜잭션으로 묶지 않는다
+    private void endAuctionProcess() {
         LocalDateTime now = LocalDateTime.now(KoreaClock.getClock());
 
         List<Integer> auctionSeqs = auctionRepository.findAuctionWhatAreEnd(now);
         if (auctionSeqs.isEmpty()) return;
 
-        log.info(String.format(">>>>>>>>>>>> 경매 종료 %s", auctionSeqs));
+        log.info(String.format(">>>>>>>>>>>> 누락된 경매 종료 %s", auctionSeqs));
+        List<Integer> settled = new ArrayList<>();
         for (Integer auctionSeq : auctionSeqs) {
-            bidRankService.saveRedisToDataBase(auctionSeq);
+            if (bidSettlementService.settle(auctionSeq)) {
+                settled.add(auctionSeq);
+            }
         }
 
-        auctionRepository.updateFinishByAuctionSeqIn(auctionSeqs);
+        if (!settled.isEmpty()) {
+            auctionRepository.updateFinishByAuctionSeqIn(settled);
+        }
     }
 
-    /* 종료되고 우승자가 정해지지 않은 경매 중에서
-    (종료 시각) + (등수 * 1시간) < (현재 시각)
-    인 경우 거절 처리 */
-    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    /*
+     * 낙찰 제안 순환 (종료되고 우승자가 정해지지 않은 경매 전체를 한 번에 처리)
+     * 1. 응답 마감(offerExpiresAt)이 지난 OFFERED → TIMEOUT
+     * 2. 제안 중(OFFERED)/수락(ACCEPTED)인 입찰이 없는 경매의 다음 순위 WAITING → OFFERED
+     * 3. 남은 후보(OFFERED/WAITING/ACCEPTED)가 없는 경매 → 유찰(winnerSeq = -1)
+     * 경매/입찰 수와 무관하게 UPDATE 몇 번으로 끝나며, 한 트랜잭션 안에서 실행되어 중간 상태가 보이지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${auction.offer.cascade-seconds:60}", timeUnit = TimeUnit.SECONDS)
     @Transactional
     public void processOfferTimeoutAndNext() {
         LocalDateTime now = LocalDateTime.now(KoreaClock.getClock());
+        LocalDateTime expiresAt = now.plusMinutes(offerWindowMinutes);
 
-        // 1. 끝났지만 winnerSeq가 아직 정해지지 않은 경매들
-        List<Auction> auctions = auctionRepository.findFinishedWithoutWinner();
-        for (Auction auction : auctions) {
-            processSingleAuction(auction, now);
-        }
-    }
-
-    private void processSingleAuction(Auction auction, LocalDateTime now) {
-        Integer auctionSeq = auction.getAuctionSeq();
-
-        // =========== 후보자 조회 ==============
-        List<Bid> rankers =
-                bidRepository.findByAuction_AuctionSeqAndRankLessThanOrderByRankAsc(auctionSeq, 10);
-
-        // 아예 없으면 유찰 처리: winnerSeq = -1
-        if (rankers.isEmpty()) {
-            auction.setWinnerSeq(-1);
-            return;
-        }
-
-        for (Bid b : rankers) {
-            BidStatus status = b.getStatus();
-
-            // 이미 최종 상태인 애들은 그대로 둠
-            if (status == BidStatus.TIMEOUT
-                    || status == BidStatus.REJECTED
-                    || status == BidStatus.LOST
-                    || status == BidStatus.ACCEPTED) {
-                continue;
-            }
-
-            // 만료 처리
-            int rank = b.getRank();
-            LocalDateTime due = auction.getAuctionEndAt().plusHours(rank + 1);
-
-            if (now.isAfter(due)) {
-                b.setStatus(BidStatus.TIMEOUT);
-                continue;
-            }
-            //  ======= 다음 offer ======
-            b.setStatus(BidStatus.OFFERED);
-            break; // 한명만
-        }
+        // 마감 시각 없이 정산된 이전 제안은 지금부터 응답 시간을 준다
+        bidRepository.fillMissingOfferExpiresAt(expiresAt);
 
-        // ============== 이제 가능한 사람이 없다면 ================
-        boolean hasCandidate = rankers.stream().anyMatch(b ->
-                b.getStatus() == BidStatus.OFFERED ||
-                        b.getStatus() == BidStatus.WAITING ||
-                        b.getStatus() == BidStatus.ACCEPTED
-        );
+        int timeout = bidRepository.timeoutExpiredOffers(now);
+        int offered = bidRepository.offerNextRank(expiresAt);
+        int noWinner = auctionRepository.updateNoWinner();
 
-        // OFFERED / WAITING / ACCEPTED 다 사라졌다면 → 유찰 처리
-        if (!hasCandidate) {
-            auction.setWinnerSeq(-1);
+        if (timeout + offered + noWinner > 0) {
+            log.info("[Offer] 제안 만료: {}, 다음 순위 제안: {}, 유찰: {}", timeout, offered, noWinner);
         }
     }
-}
\ No newline at end of file
+}
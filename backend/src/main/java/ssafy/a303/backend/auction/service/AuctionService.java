@@ -6,6 +6,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ssafy.a303.backend.auction.dto.request.BrkApplyRequestDto;
 import ssafy.a303.backend.auction.dto.request.BrkCancelRequestDto;
 import ssafy.a303.backend.auction.dto.response.BrkApplicantResponseDto;
@@ -39,6 +41,7 @@ public class AuctionService {
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
     private final PropertySearchService searchService;
+    private final AuctionTimer auctionTimer;
 
     /**
      * 중개 및 경매 신청 (중개인 -> 매물)
@@ -178,5 +181,16 @@ public class AuctionService {
         auction.setStatus(AuctionStatus.ACCEPTED);
         // has_brk es 필드 갱신
         searchService.setIndex(property);
+
+        // 커밋 이후 경매 시작/종료 타이머 예약 (롤백되면 예약하지 않음)
+        LocalDateTime startAt = auction.getAuctionStartAt();
+        LocalDateTime endAt = auction.getAuctionEndAt();
+        Integer minAuc = property.getMinAuc();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auctionTimer.schedule(auctionSeq, startAt, endAt, minAuc);
+            }
+        });
     }
 }
@@ -0,0 +1,105 @@
+package ssafy.a303.backend.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import ssafy.a303.backend.auction.repository.AuctionInProgressRepository;
+import ssafy.a303.backend.auction.repository.AuctionRepository;
+import ssafy.a303.backend.common.helper.KoreaClock;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 경매 시작/종료 타이머
+ * - 곧 시작/종료될 경매를 auctionStartAt / auctionEndAt 시각에 정확히 실행되도록 TaskScheduler 에 예약한다.
+ * - 경매 하나당 타이머 하나만 유지하고, 시각이 바뀌면 기존 타이머를 취소한 뒤 다시 예약한다.
+ * - 서버 재시작 등으로 놓친 경매는 AuctionScheduler 의 보정(reconcile) 조회가 처리한다.
+ * - 여러 서버가 같은 경매를 예약해도 시작 등록(setIfAbsent)과 종료 정산(lease)이 중복 실행을 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionTimer {
+
+    private final TaskScheduler taskScheduler;
+    private final AuctionRepository auctionRepository;
+    private final AuctionInProgressRepository auctionInProgressRepository;
+    private final BidSettlementService bidSettlementService;
+
+    private final Map<Integer, Reservation> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 경매 시작/종료 예약 (같은 시각으로 이미 예약돼 있으면 무시)
+     * 시작 시각이 지났고 아직 종료 전이면 즉시 시작한다.
+     * @param minAuc 매물의 최저 입찰가 (시작 시 진행 표식에 함께 기록)
+     */
+    public void schedule(int auctionSeq, LocalDateTime startAt, LocalDateTime endAt, Integer minAuc) {
+        if (startAt == null || endAt == null) return;
+
+        Reservation current = timers.get(auctionSeq);
+        if (current != null && current.matches(startAt, endAt, minAuc)) return;
+
+        LocalDateTime now = LocalDateTime.now(KoreaClock.getClock());
+        ScheduledFuture<?> start = null;
+        if (now.isBefore(endAt)) {
+            start = taskScheduler.schedule(() -> start(auctionSeq, endAt, minAuc), toInstant(startAt));
+        }
+        ScheduledFuture<?> end = taskScheduler.schedule(() -> finish(auctionSeq), toInstant(endAt));
+
+        Reservation previous = timers.put(auctionSeq, new Reservation(startAt, endAt, minAuc, start, end));
+        if (previous != null) {
+            previous.cancel();
+        }
+        log.debug("[AuctionTimer] 예약 - auctionSeq={}, start={}, end={}", auctionSeq, startAt, endAt);
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /* 경매 시작: 진행 중 경매로 Redis 에 등록 (종료 시각에 자동 만료) */
+    void start(int auctionSeq, LocalDateTime endAt, Integer minAuc) {
+        if (!LocalDateTime.now(KoreaClock.getClock()).isBefore(endAt)) return;
+
+        auctionInProgressRepository.enrollAuctionInProgress(auctionSeq, endAt, minAuc);
+        log.info(String.format(">>>>>>>>>>>> 경매 시작 %s", auctionSeq));
+    }
+
+    /* 경매 종료: 정산 후 finish 처리. 다른 서버가 정산 중이면 보정 조회에서 다시 확인한다 */
+    void finish(int auctionSeq) {
+        timers.remove(auctionSeq);
+        try {
+            if (bidSettlementService.settle(auctionSeq)) {
+                auctionRepository.updateFinishByAuctionSeqIn(List.of(auctionSeq));
+                log.info(String.format(">>>>>>>>>>>> 경매 종료 %s", auctionSeq));
+            }
+        } catch (Exception e) {
+            log.error("[AuctionTimer] 경매 종료 처리 실패 - auctionSeq={}", auctionSeq, e);
+        }
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(KoreaClock.getClock().getZone()).toInstant();
+    }
+
+    private record Reservation(LocalDateTime startAt, LocalDateTime endAt, Integer minAuc,
+                               ScheduledFuture<?> start, ScheduledFuture<?> end) {
+
+        boolean matches(LocalDateTime startAt, LocalDateTime endAt, Integer minAuc) {
+            return Objects.equals(this.startAt, startAt) && Objects.equals(this.endAt, endAt)
+                    && Objects.equals(this.minAuc, minAuc);
+        }
+
+        void cancel() {
+            if (start != null) start.cancel(false);
+            end.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package ssafy.a303.backend.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.dto.response.BidDeadLetterDTO;
+import ssafy.a303.backend.auction.dto.response.BidDeadLetterReplayDTO;
+import ssafy.a303.backend.auction.kafka.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 입찰 DLT(auction-bid-dlt) 조회/재처리
+ * - 처리 위치는 auction-bid-dlt-replay group 의 커밋 오프셋으로 관리한다. (조회는 커밋하지 않고, 재처리만 커밋)
+ * - 재처리는 auction-bid 로 다시 보내 일반 입찰과 같은 경로로 반영한다. bidId 로 멱등하므로 이미 반영된 입찰은 무시된다.
+ *   (그 사이 경매가 끝났으면 CLOSED 로 처리된다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidDeadLetterService {
+
+    private static final String GROUP_ID = "auction-bid-dlt-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    // 요청 한 번에 메모리에 올리는 레코드 수 상한
+    private static final int MAX_FIND_SIZE = 200;
+    private static final int MAX_REPLAY_SIZE = 1000;
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+
+    /* 아직 재처리하지 않은 DLT 레코드 (최대 size 건, 상한 MAX_FIND_SIZE) */
+    public List<BidDeadLetterDTO> findPending(int size) {
+        try (Consumer<Object, Object> consumer = createConsumer()) {
+            List<BidDeadLetterDTO> result = new ArrayList<>();
+            for (ConsumerRecord<Object, Object> record : readPending(consumer, Math.min(Math.max(size, 1), MAX_FIND_SIZE))) {
+                result.add(toDTO(record));
+            }
+            return result;
+        }
+    }
+
+    /* 아직 재처리하지 않은 DLT 레코드를 auction-bid 로 다시 보내고 처리 위치를 커밋 (최대 size 건, 상한 MAX_REPLAY_SIZE) */
+    public BidDeadLetterReplayDTO replay(int size) {
+        try (Consumer<Object, Object> consumer = createConsumer()) {
+            int replayed = 0;
+            int skipped = 0;
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+            for (ConsumerRecord<Object, Object> record : readPending(consumer, Math.min(Math.max(size, 1), MAX_REPLAY_SIZE))) {
+                if (record.value() instanceof BidEventMessage message) {
+                    send(record.key(), message);
+                    replayed++;
+                } else {
+                    log.warn("[DLT] 역직렬화 실패 레코드 건너뜀 - partition={}, offset={}", record.partition(), record.offset());
+                    skipped++;
+                }
+                offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+            }
+
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+            log.info("[DLT] 재처리 - 재전송: {}, 건너뜀: {}", replayed, skipped);
+            return new BidDeadLetterReplayDTO(replayed, skipped);
+        }
+    }
+
+    private Consumer<Object, Object> createConsumer() {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return consumerFactory.createConsumer(GROUP_ID, "bid-dlt-", null, props);
+    }
+
+    // 파티션별 커밋 오프셋(없으면 처음)부터 현재 끝까지, 최대 size 건
+    private List<ConsumerRecord<Object, Object>> readPending(Consumer<Object, Object> consumer, int size) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (PartitionInfo info : consumer.partitionsFor(Topic.AUCTION_BID_DLT.getTopic())) {
+            partitions.add(new TopicPartition(info.topic(), info.partition()));
+        }
+        consumer.assign(partitions);
+
+        Map<TopicPartition, Long> ends = consumer.endOffsets(partitions);
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+        Map<TopicPartition, Long> beginnings = consumer.beginningOffsets(partitions);
+        for (TopicPartition tp : partitions) {
+            OffsetAndMetadata offset = committed.get(tp);
+            consumer.seek(tp, offset != null ? Math.max(offset.offset(), beginnings.get(tp)) : beginnings.get(tp));
+        }
+
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        while (records.size() < size && !reachedEnd(consumer, partitions, ends)) {
+            for (ConsumerRecord<Object, Object> record : consumer.poll(POLL_TIMEOUT)) {
+                TopicPartition tp = new TopicPartition(record.topic(), record.partition());
+                if (record.offset() >= ends.get(tp) || records.size() >= size) continue;
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static boolean reachedEnd(Consumer<Object, Object> consumer, List<TopicPartition> partitions,
+                                      Map<TopicPartition, Long> ends) {
+        for (TopicPartition tp : partitions) {
+            if (consumer.position(tp) < ends.get(tp)) return false;
+        }
+        return true;
+    }
+
+    private void send(Object key, BidEventMessage message) {
+        try {
+            kafkaTemplate.send(Topic.AUCTION_BID.getTopic(), key, message).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("DLT 재처리 전송 실패 - bidId=" + message.bidId(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재처리 중단", e);
+        }
+    }
+
+    private static BidDeadLetterDTO toDTO(ConsumerRecord<Object, Object> record) {
+        String originalTopic = header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        String exception = header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE);
+        if (record.value() instanceof BidEventMessage m) {
+            return new BidDeadLetterDTO(record.partition(), record.offset(), m.auctionSeq(), m.userSeq(),
+                    m.amount(), m.bidId(), m.bidAt(), originalTopic, exception);
+        }
+        return new BidDeadLetterDTO(record.partition(), record.offset(), null, null,
+                null, null, null, originalTopic, exception);
+    }
+
+    private static String header(ConsumerRecord<Object, Object> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
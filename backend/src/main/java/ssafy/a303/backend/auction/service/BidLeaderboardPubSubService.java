@@ -0,0 +1,54 @@
+package ssafy.a303.backend.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 경매 순위표 Redis Pub/Sub 중계
+ * 1. 순위를 갱신한 consumer 노드가 auction:leaderboard:{auctionSeq} 채널로 순위표를 발행
+ * 2. 모든 노드가 수신 → 자기 노드에 붙은 STOMP 구독자(/sub/auction/{auctionSeq}/leaderboard)에게 전달
+ */
+@Slf4j
+@Service
+public class BidLeaderboardPubSubService implements MessageListener {
+
+    public static final String CHANNEL_PREFIX = "auction:leaderboard:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    public BidLeaderboardPubSubService(
+            @Qualifier("bidRedisTemplate") StringRedisTemplate redisTemplate,
+            SimpMessageSendingOperations messagingTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    public void publish(int auctionSeq, String payload) {
+        redisTemplate.convertAndSend(CHANNEL_PREFIX + auctionSeq, payload);
+    }
+
+    /**
+     * Redis → 순위표 수신 → Front 로 Broadcast (JSON 그대로 전달)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            String auctionSeq = channel.substring(CHANNEL_PREFIX.length());
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+            messagingTemplate.convertAndSend("/sub/auction/" + auctionSeq + "/leaderboard", payload);
+        } catch (Exception e) {
+            log.error("[REDIS][LEADERBOARD] 순위표 브로드캐스트 실패: {}", e.getMessage(), e);
+        }
+    }
+}
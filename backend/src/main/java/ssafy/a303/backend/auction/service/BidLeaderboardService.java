@@ -0,0 +1,65 @@
+package ssafy.a303.backend.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ssafy.a303.backend.auction.dto.response.BidLeaderboardDTO;
+import ssafy.a303.backend.auction.repository.BidRankRepository;
+import ssafy.a303.backend.common.helper.DataSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중 경매 실시간 순위표 송출
+ * - 랭킹이 바뀐 경매를 표시(markChanged)만 해두고, interval-ms 마다 바뀐 경매의 상위 N 명을 한 번씩만 발행한다.
+ * - 입찰이 몰려도 발행 횟수는 (경매 수 x 주기) 로 고정되고, 시청자 수와는 무관하다.
+ */
+@Slf4j
+@Service
+public class BidLeaderboardService {
+
+    private final BidRankRepository bidRankRepository;
+    private final BidLeaderboardPubSubService bidLeaderboardPubSubService;
+    private final int size;
+
+    // 마지막 발행 이후 랭킹이 바뀐 경매
+    private final Set<Integer> changed = ConcurrentHashMap.newKeySet();
+
+    public BidLeaderboardService(BidRankRepository bidRankRepository,
+                                 BidLeaderboardPubSubService bidLeaderboardPubSubService,
+                                 @Value("${bid.leaderboard.size:10}") int size) {
+        this.bidRankRepository = bidRankRepository;
+        this.bidLeaderboardPubSubService = bidLeaderboardPubSubService;
+        this.size = size;
+    }
+
+    public void markChanged(int auctionSeq) {
+        changed.add(auctionSeq);
+    }
+
+    @Scheduled(fixedDelayString = "${bid.leaderboard.interval-ms:500}")
+    public void flush() {
+        if (changed.isEmpty()) return;
+
+        List<Integer> auctionSeqs = new ArrayList<>(changed.size());
+        for (Integer auctionSeq : changed) {
+            // 꺼내는 사이 다시 표시된 경매는 다음 주기에 발행
+            if (changed.remove(auctionSeq)) {
+                auctionSeqs.add(auctionSeq);
+            }
+        }
+
+        for (Integer auctionSeq : auctionSeqs) {
+            try {
+                BidLeaderboardDTO leaderboard = bidRankRepository.getLeaderboard(auctionSeq, size);
+                bidLeaderboardPubSubService.publish(auctionSeq, DataSerializer.serialize(leaderboard));
+            } catch (Exception e) {
+                log.warn("[Leaderboard] 순위표 발행 실패 - auctionSeq={}: {}", auctionSeq, e.getMessage());
+            }
+        }
+    }
+}
@@ -3,21 +3,19 @@ package ssafy.a303.backend.auction.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import ssafy.a303.backend.auction.dto.request.BidEventMessage;
-import ssafy.a303.backend.auction.entity.Auction;
-import ssafy.a303.backend.auction.entity.Bid;
-import ssafy.a303.backend.auction.entity.BidStatus;
+import ssafy.a303.backend.auction.dto.response.BidAdmissionResult;
+import ssafy.a303.backend.auction.dto.response.BidRankDTO;
 import ssafy.a303.backend.auction.repository.*;
 import ssafy.a303.backend.common.exception.CustomException;
-import ssafy.a303.backend.common.helper.DataSerializer;
 import ssafy.a303.backend.common.response.ErrorCode;
-import ssafy.a303.backend.user.entity.User;
-import ssafy.a303.backend.user.repository.UserRepository;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -26,82 +24,120 @@ public class BidRankService {
 
     private final BidRankRepository bidRankRepository;
     private final AuctionInProgressRepository auctionInProgressRepository;
-    private final BidRepository bidRepository;
-    private final UserRepository userRepository;
-    private final AuctionRepository auctionRepository;
     private final BidTryCountRepository bidTryCountRepository;
-    private static final int LIMIT = 10;
-
+    private final BidLeaderboardService bidLeaderboardService;
+    private final BidRateLimiter bidRateLimiter;
+    private final KnownBidderCache knownBidderCache;
+
+    /*
+     * Kafka 전송 전 입찰 가능 여부 확인 (싼 검사부터)
+     * 로컬 입찰자 캐시 → 요청 제한(Redis) → 진행 여부(로컬 캐시) → 입찰 하한(로컬 캐시) → bid-try 집합(Redis)
+     * 이미 입찰한 사용자의 반복 요청은 네트워크 없이 바로 거절하고, 요청 제한 토큰도 쓰지 않는다.
+     * 최저 입찰가 미만/입찰 단위가 맞지 않는 입찰은 Kafka 로 보내지 않는다. (랭킹, 정산 대상에서도 빠짐)
+     */
     public void check (BidEventMessage message){
-        if(!auctionInProgressRepository.checkAuctionInProgress(message.auctionSeq()))
+        int auctionSeq = message.auctionSeq();
+        int userSeq = message.userSeq();
+
+        // 경매가 닫히면 AuctionInProgressCache 가 해당 경매 입찰자 캐시를 비운다
+        if(knownBidderCache.contains(auctionSeq, userSeq))
+            throw new CustomException(ErrorCode.ALREADY_BID);
+        if(!bidRateLimiter.tryAcquire(auctionSeq, userSeq))
+            throw new CustomException(ErrorCode.BID_TOO_MANY_REQUESTS);
+        if(!auctionInProgressRepository.checkAuctionInProgress(auctionSeq))
             throw new CustomException(ErrorCode.AUCTION_NOT_IN_PROGRESS);
-        if(bidTryCountRepository.hasAlreadyBid(message.userSeq(), message.auctionSeq())){
+        BidReserve reserve = auctionInProgressRepository.getReserve(auctionSeq);
+        if(reserve.isBelowMin(message.amount()))
+            throw new CustomException(ErrorCode.BID_BELOW_MIN_AMOUNT);
+        if(!reserve.matchesUnit(message.amount()))
+            throw new CustomException(ErrorCode.BID_AMOUNT_UNIT_MISMATCH);
+        if(bidTryCountRepository.hasAlreadyBid(userSeq, auctionSeq)){
+            knownBidderCache.add(auctionSeq, userSeq);
             throw new CustomException(ErrorCode.ALREADY_BID);
         }
     }
 
-    public void updateRanking(BidEventMessage message) {
-        if(!auctionInProgressRepository.checkAuctionInProgress(message.auctionSeq()))
-            return;
-        if(bidTryCountRepository.hasAlreadyBid(message.userSeq(), message.auctionSeq())){
-            return;
+    public BidAdmissionResult updateRanking(BidEventMessage message) {
+        // 진행 여부 확인 + 입찰 여부 등록 + 랭킹 저장을 Redis 에서 원자적으로 처리
+        BidAdmissionResult result = bidRankRepository.admit(message);
+        if(result == BidAdmissionResult.ACCEPTED || result == BidAdmissionResult.DUPLICATE){
+            knownBidderCache.add(message.auctionSeq(), message.userSeq());
         }
-        // 입찰 여부 등록
-        boolean firstTime = bidTryCountRepository.tryFirstBid(message.auctionSeq(), message.userSeq());
-        if(firstTime){
+        if(result == BidAdmissionResult.ACCEPTED){
+            bidLeaderboardService.markChanged(message.auctionSeq());
             log.info(String.format("매물번호: %s, 입찰자: %s , 입찰액: %s", message.auctionSeq(), message.userSeq(), message.amount()));
-            bidRankRepository.updateScore(message);
         }
+        return result;
     }
 
-    @Transactional
-    public void saveRedisToDataBase(int auctionSeq) {
-        Set<String> top = bidRankRepository.getTopUsers(auctionSeq, LIMIT);
-        Set<String> rest = bidRankRepository.getRestUsers(auctionSeq, LIMIT);
-
-        Auction auction = auctionRepository.getReferenceById(auctionSeq);
-
-        saveDB(top, auction, true);
-        saveDB(rest, auction, false);
-
-        bidRankRepository.deleteKey(auctionSeq);
-        bidTryCountRepository.deleteKey(auctionSeq);
-        auctionInProgressRepository.deleteKey(auctionSeq);
-    }
-
-    private void saveDB(Set<String> data, Auction auction, boolean isRanker) {
-        int rank = 0;
-        List<Bid> bids = new ArrayList<>();
-        for (String json : data) {
-            BidEventMessage msg = DataSerializer.deserialize(json, BidEventMessage.class);
-            User user = userRepository.getReferenceById(msg.userSeq());
-
-            int finalRank;
-            BidStatus status;
+    /**
+     * 배치 단위 랭킹 반영
+     * - 같은 경매의 같은 사용자 입찰은 배치 안에서 먼저 들어온 1건만 Redis 로 보내고 나머지는 DUPLICATE 처리한다.
+     *   단, 같은 사용자의 같은 bidId 가 다시 들어온 경우(재전송)는 같은 입찰이므로 먼저 들어온 건과 같은 결과를 돌려준다.
+     * - 경매별로 묶되 각 경매 안에서는 파티션 순서를 유지하여 파이프라인으로 한 번에 전송한다.
+     * @return 입력 순서와 같은 순서의 처리 결과
+     */
+    public List<BidAdmissionResult> updateRankingBatch(List<BidEventMessage> messages) {
+        Map<Integer, Map<Integer, Integer>> byAuction = new LinkedHashMap<>(); // auctionSeq -> (userSeq -> index)
+        Map<String, Integer> firstByBidId = new HashMap<>(); // "userSeq:bidId" -> index
+        Map<Integer, Integer> replays = new HashMap<>(); // index -> 같은 bidId 의 첫 index
+        for (int i = 0; i < messages.size(); i++) {
+            BidEventMessage message = messages.get(i);
+            if (message.bidId() != null) {
+                Integer first = firstByBidId.putIfAbsent(message.userSeq() + ":" + message.bidId(), i);
+                if (first != null) {
+                    replays.put(i, first);
+                    continue;
+                }
+            }
+            byAuction.computeIfAbsent(message.auctionSeq(), k -> new LinkedHashMap<>())
+                    .putIfAbsent(message.userSeq(), i);
+        }
 
-            if (isRanker) {
-                finalRank = rank++;
-                status = (finalRank == 0) ? BidStatus.OFFERED : BidStatus.WAITING;
-            } else {
-                finalRank = 999;
-                status = BidStatus.LOST;
+        List<Integer> indexes = new ArrayList<>(messages.size());
+        List<BidEventMessage> deduped = new ArrayList<>(messages.size());
+        for (Map<Integer, Integer> bids : byAuction.values()) {
+            for (Integer index : bids.values()) {
+                indexes.add(index);
+                deduped.add(messages.get(index));
             }
+        }
 
-            Bid bid = Bid.builder()
-                    .user(user)
-                    .auction(auction)
-                    .bidAt(msg.bidAt())
-                    .bidAmount(msg.amount().intValue())
-                    .rank(finalRank)
-                    .status(status)
-                    .build();
+        List<BidAdmissionResult> admitted = bidRankRepository.admitAll(deduped);
 
-            bids.add(bid);
+        List<BidAdmissionResult> results = new ArrayList<>(Collections.nCopies(messages.size(), BidAdmissionResult.DUPLICATE));
+        int accepted = 0;
+        for (int i = 0; i < admitted.size(); i++) {
+            BidAdmissionResult result = admitted.get(i);
+            results.set(indexes.get(i), result);
+            if (result != BidAdmissionResult.CLOSED) {
+                knownBidderCache.add(deduped.get(i).auctionSeq(), deduped.get(i).userSeq());
+            }
+            if (result == BidAdmissionResult.ACCEPTED) {
+                accepted++;
+                bidLeaderboardService.markChanged(deduped.get(i).auctionSeq());
+            }
         }
-        bidRepository.saveAll(bids);
+        replays.forEach((index, first) -> results.set(index, results.get(first)));
+        log.info("[BidRank] 배치 반영 - 수신: {}, 경매: {}, 등록: {}", messages.size(), byAuction.size(), accepted);
+        return results;
+    }
+
+    /* 방금 등록된 입찰들의 잠정 순위 (1부터, 없으면 null) */
+    public List<Integer> getProvisionalRanks(List<BidEventMessage> messages) {
+        return bidRankRepository.getRanks(messages);
     }
 
     public BidEventMessage readBidInRedis(int auctionSeq, int userSeq){
         return bidRankRepository.getUser(auctionSeq, userSeq);
     }
+
+    /* 진행 중 경매에서의 내 순위, 1위와의 차이 */
+    public BidRankDTO getMyRank(int auctionSeq, int userSeq) {
+        BidRankDTO standing = bidRankRepository.getStanding(auctionSeq, userSeq);
+        if (standing == null) {
+            throw new CustomException(ErrorCode.BID_NOT_FOUND);
+        }
+        return standing;
+    }
 }
@@ -0,0 +1,80 @@
+package ssafy.a303.backend.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ssafy.a303.backend.auction.repository.BidRateLimitRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 x 경매 단위 입찰 요청 제한 (토큰 버킷)
+ * 1. 노드 로컬 버킷에서 먼저 거른다. (연타/스크립트 요청은 네트워크 없이 거절)
+ * 2. 로컬을 통과한 요청만 Redis 버킷으로 확인한다. (여러 서버로 분산된 요청까지 합산해 제한)
+ */
+@Slf4j
+@Component
+public class BidRateLimiter {
+
+    private final BidRateLimitRepository bidRateLimitRepository;
+    private final int capacity;
+    private final double perSecond;
+    private final long idleMillis;
+
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public BidRateLimiter(BidRateLimitRepository bidRateLimitRepository,
+                          @Value("${bid.rate-limit.burst:3}") int capacity,
+                          @Value("${bid.rate-limit.per-second:1}") double perSecond) {
+        this.bidRateLimitRepository = bidRateLimitRepository;
+        this.capacity = capacity;
+        this.perSecond = perSecond;
+        // 버킷이 가득 찰 때까지 걸리는 시간 (이후엔 새 버킷과 같으므로 지워도 됨)
+        this.idleMillis = (long) Math.ceil(capacity / perSecond * 1000);
+    }
+
+    public boolean tryAcquire(int auctionSeq, int userSeq) {
+        long now = System.currentTimeMillis();
+        Bucket bucket = buckets.computeIfAbsent(key(auctionSeq, userSeq), k -> new Bucket(capacity, now));
+        if (!bucket.tryAcquire(now, capacity, perSecond / 1000)) {
+            return false;
+        }
+        return bidRateLimitRepository.tryAcquire(auctionSeq, userSeq, capacity, perSecond, idleMillis);
+    }
+
+    /* 가득 찬 채로 방치된 버킷 정리 */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        buckets.values().removeIf(bucket -> bucket.lastRefillAt() < threshold);
+    }
+
+    private static long key(int auctionSeq, int userSeq) {
+        return ((long) auctionSeq << 32) | (userSeq & 0xffffffffL);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryAcquire(long now, int capacity, double perMillis) {
+            tokens = Math.min(capacity, tokens + Math.max(0, now - refilledAt) * perMillis);
+            refilledAt = now;
+            if (tokens < 1) return false;
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized long lastRefillAt() {
+            return refilledAt;
+        }
+    }
+}
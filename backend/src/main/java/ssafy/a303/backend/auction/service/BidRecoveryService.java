@@ -0,0 +1,298 @@
+package ssafy.a303.backend.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordDeserializationException;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+import ssafy.a303.backend.auction.dto.projection.AuctionScheduleProjection;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.dto.response.BidAdmissionResult;
+import ssafy.a303.backend.auction.dto.response.BidRecoveryStatusDTO;
+import ssafy.a303.backend.auction.entity.Auction;
+import ssafy.a303.backend.auction.kafka.Topic;
+import ssafy.a303.backend.auction.repository.AuctionInProgressRepository;
+import ssafy.a303.backend.auction.repository.AuctionRepository;
+import ssafy.a303.backend.auction.repository.BidRankRepository;
+import ssafy.a303.backend.auction.repository.BidRecoveryRepository;
+import ssafy.a303.backend.auction.repository.BidRedisRouter;
+import ssafy.a303.backend.common.exception.CustomException;
+import ssafy.a303.backend.common.helper.KoreaClock;
+import ssafy.a303.backend.common.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 입찰 랭킹 복구 (auction-bid 로그 재생)
+ * - 입찰 Redis(DB4)가 비워지면 경매 시작 시각(또는 지정한 오프셋)부터 auction-bid 토픽을 다시 읽어 랭킹을 재구성한다.
+ * - 경매는 항상 auctionSeq key 의 파티션 하나에만 있으므로 그 파티션만 읽고, 복구 시작 시점의 끝 오프셋까지만 읽는다.
+ *   (복구 시간 = 해당 구간의 레코드 수에 비례)
+ * - 레코드는 poll 단위로 묶어 입찰 스크립트를 파이프라인으로 재실행한다. bidId 로 멱등하므로 실시간 소비와 동시에 돌거나
+ *   여러 번 실행해도 중복 반영되지 않는다.
+ * - 유실 확인은 기동 직후, 정산이 유실을 발견했을 때, 보정 주기마다 실행한다.
+ *   유실을 감지하면 진행 중 표식부터 모두 되살려 실시간 입찰을 바로 받고, 경매별로 복구 대기 목록에 넣은 뒤 하나씩 재생한다.
+ *   정산은 경매 단위로만 막히므로(BidRecoveryRepository.isRecovered) 한 경매의 복구 실패가 다른 경매를 막지 않는다.
+ */
+@Slf4j
+@Service
+public class BidRecoveryService {
+
+    private static final String RUNNING = "RUNNING";
+    private static final String DONE = "DONE";
+    private static final String FAILED = "FAILED";
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final AuctionRepository auctionRepository;
+    private final AuctionInProgressRepository auctionInProgressRepository;
+    private final BidRankRepository bidRankRepository;
+    private final BidRecoveryRepository bidRecoveryRepository;
+    private final BidRedisRouter router;
+    private final int maxPollRecords;
+    private final Duration timeout;
+
+    private final Map<Integer, BidRecoveryStatusDTO> progress = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "bid-recovery"));
+    private final AtomicBoolean checkQueued = new AtomicBoolean();
+
+    public BidRecoveryService(ConsumerFactory<Object, Object> consumerFactory,
+                              AuctionRepository auctionRepository,
+                              AuctionInProgressRepository auctionInProgressRepository,
+                              BidRankRepository bidRankRepository,
+                              BidRecoveryRepository bidRecoveryRepository,
+                              BidRedisRouter router,
+                              @Value("${bid.recovery.max-poll-records:2000}") int maxPollRecords,
+                              @Value("${bid.recovery.timeout-seconds:600}") long timeoutSeconds) {
+        this.consumerFactory = consumerFactory;
+        this.auctionRepository = auctionRepository;
+        this.auctionInProgressRepository = auctionInProgressRepository;
+        this.bidRankRepository = bidRankRepository;
+        this.bidRecoveryRepository = bidRecoveryRepository;
+        this.router = router;
+        this.maxPollRecords = maxPollRecords;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        requestCheck();
+    }
+
+    /**
+     * 유실 확인/복구를 백그라운드에서 실행 (이미 대기 중이면 무시)
+     * 정산이 복구 전 경매를 만나면 보정 주기를 기다리지 않고 바로 호출한다.
+     */
+    public void requestCheck() {
+        if (!checkQueued.compareAndSet(false, true)) return;
+        executor.execute(() -> {
+            checkQueued.set(false);
+            try {
+                recoverIfLost();
+            } catch (Exception e) {
+                log.error("[Recovery] 입찰 랭킹 복구 실패 - 다음 보정 주기에 다시 시도", e);
+            }
+        });
+    }
+
+    /**
+     * 입찰 Redis 유실 확인 후, 복구 대기 중인 경매를 하나씩 복구
+     * 1. 표식이 없는 샤드가 있으면 그 샤드의 진행 중 경매(시작되었고 아직 정산되지 않은 경매)의 진행 표식을 먼저 되살리고
+     *    복구 대기 목록에 넣은 뒤 표식을 기록한다. (대기 목록을 먼저 기록하므로 그 사이 죽어도 다시 감지된다)
+     * 2. 대기 목록의 경매를 하나씩 재생한다. 실패한 경매는 목록에 남아 다음 확인 때 다시 시도하고, 나머지 경매는 계속 진행한다.
+     * 복구 스레드(bid-recovery)에서만 실행된다.
+     */
+    private void recoverIfLost() {
+        LocalDateTime now = LocalDateTime.now(KoreaClock.getClock());
+        List<Integer> lostShards = bidRecoveryRepository.lostShards();
+        List<Integer> pending = bidRecoveryRepository.findPending();
+        if (lostShards.isEmpty() && pending.isEmpty()) return;
+
+        List<AuctionScheduleProjection> auctions = auctionRepository.findAuctionWhatToSchedule(now);
+        if (!lostShards.isEmpty()) {
+            Set<Integer> lost = new HashSet<>(lostShards);
+            int marked = 0;
+            for (AuctionScheduleProjection a : auctions) {
+                if (!lost.contains(router.shardOf(a.getAuctionSeq()))) continue;
+                auctionInProgressRepository.enrollAuctionInProgress(a.getAuctionSeq(), a.getAuctionEndAt(), a.getMinAuc());
+                bidRecoveryRepository.markPending(a.getAuctionSeq());
+                marked++;
+            }
+            bidRecoveryRepository.markSentinel(lostShards);
+            log.warn("[Recovery] 입찰 Redis 유실 감지 - shards={}, 복구 대상 경매 {}건", lostShards, marked);
+        }
+
+        Set<Integer> targets = new HashSet<>(bidRecoveryRepository.findPending());
+        int failed = 0;
+        for (AuctionScheduleProjection a : auctions) {
+            if (!targets.remove(a.getAuctionSeq())) continue;
+            try {
+                recover(a.getAuctionSeq(), a.getAuctionStartAt(), a.getAuctionEndAt(), null);
+            } catch (Exception e) {
+                failed++;
+            }
+        }
+        // 이미 정산되었거나 더 이상 진행 대상이 아닌 경매는 재생할 것이 없다
+        targets.forEach(bidRecoveryRepository::clearPending);
+
+        if (failed > 0) {
+            log.error("[Recovery] 복구 실패 경매 {}건 - 해당 경매만 정산 보류, 다음 확인 때 다시 시도", failed);
+        }
+    }
+
+    /**
+     * 경매 하나 복구 (비동기) - 진행 상황은 getStatus 로 조회
+     * @param fromOffset 재생 시작 오프셋 (null 이면 경매 시작 시각의 오프셋)
+     */
+    public BidRecoveryStatusDTO recoverAsync(int auctionSeq, Long fromOffset) {
+        BidRecoveryStatusDTO current = progress.get(auctionSeq);
+        if (current != null && RUNNING.equals(current.status())) {
+            return current;
+        }
+
+        Auction auction = auctionRepository.findById(auctionSeq)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUCTION_NOT_FOUND));
+        if (auction.isFinish()) {
+            throw new CustomException(ErrorCode.AUCTION_ALREADY_SETTLED);
+        }
+
+        LocalDateTime startAt = auction.getAuctionStartAt();
+        LocalDateTime endAt = auction.getAuctionEndAt();
+        Integer minAuc = auctionRepository.findMinAucByAuctionSeq(auctionSeq);
+        BidRecoveryStatusDTO queued = BidRecoveryStatusDTO.of(auctionSeq, RUNNING, -1, 0, 0, 0, 0, 0);
+        progress.put(auctionSeq, queued);
+
+        executor.execute(() -> {
+            auctionInProgressRepository.enrollAuctionInProgress(auctionSeq, endAt, minAuc);
+            recover(auctionSeq, startAt, endAt, fromOffset);
+        });
+        return queued;
+    }
+
+    public BidRecoveryStatusDTO getStatus(int auctionSeq) {
+        BidRecoveryStatusDTO status = progress.get(auctionSeq);
+        if (status == null) {
+            throw new CustomException(ErrorCode.BID_RECOVERY_NOT_FOUND);
+        }
+        return status;
+    }
+
+    /* 경매 파티션의 [시작 오프셋, 복구 시작 시점의 끝 오프셋) 구간을 재생 */
+    private void recover(int auctionSeq, LocalDateTime startAt, LocalDateTime endAt, Long fromOffset) {
+        String key = String.valueOf(auctionSeq);
+        long begin = System.currentTimeMillis();
+
+        Properties props = new Properties();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(
+                "auction-bid-recovery", "bid-recovery-", String.valueOf(auctionSeq), props)) {
+
+            String topic = Topic.AUCTION_BID.getTopic();
+            int partitions = consumer.partitionsFor(topic).size();
+            // Producer 기본 파티셔너와 같은 방식 (key = auctionSeq 문자열)
+            TopicPartition tp = new TopicPartition(topic,
+                    Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitions);
+            consumer.assign(List.of(tp));
+
+            long end = consumer.endOffsets(List.of(tp)).get(tp);
+            long start = fromOffset != null ? fromOffset : offsetAt(consumer, tp, startAt, end);
+            consumer.seek(tp, start);
+
+            long position = start;
+            long replayed = 0;
+            long admitted = 0;
+            long deadline = begin + timeout.toMillis();
+            progress.put(auctionSeq, BidRecoveryStatusDTO.of(auctionSeq, RUNNING, tp.partition(), start, end, position, 0, 0));
+
+            while (position < end) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("복구 제한 시간 초과 - offset=" + position + "/" + end);
+                }
+
+                ConsumerRecords<Object, Object> records;
+                try {
+                    records = consumer.poll(Duration.ofMillis(500));
+                } catch (RecordDeserializationException e) {
+                    log.warn("[Recovery] 역직렬화 실패 레코드 건너뜀 - auctionSeq={}, offset={}", auctionSeq, e.offset());
+                    position = e.offset() + 1;
+                    consumer.seek(tp, position);
+                    continue;
+                }
+
+                List<BidEventMessage> batch = new ArrayList<>();
+                for (ConsumerRecord<Object, Object> record : records) {
+                    if (record.offset() >= end) break;
+                    position = record.offset() + 1;
+                    if (!key.equals(record.key())) continue;
+                    if (record.value() instanceof BidEventMessage message && isWithin(message, startAt, endAt)) {
+                        batch.add(message);
+                    }
+                }
+                if (records.isEmpty()) {
+                    position = Math.max(position, consumer.position(tp));
+                }
+
+                for (BidAdmissionResult result : bidRankRepository.replayAll(batch)) {
+                    if (result == BidAdmissionResult.ACCEPTED) admitted++;
+                }
+                replayed += batch.size();
+                progress.put(auctionSeq, BidRecoveryStatusDTO.of(
+                        auctionSeq, RUNNING, tp.partition(), start, end, Math.min(position, end), replayed, admitted));
+            }
+
+            bidRecoveryRepository.clearPending(auctionSeq);
+            progress.put(auctionSeq, BidRecoveryStatusDTO.of(
+                    auctionSeq, DONE, tp.partition(), start, end, end, replayed, admitted));
+            log.info("[Recovery] 복구 완료 - auctionSeq={}, partition={}, offsets=[{}, {}), 입찰 {}건, 반영 {}건, {}ms",
+                    auctionSeq, tp.partition(), start, end, replayed, admitted, System.currentTimeMillis() - begin);
+        } catch (Exception e) {
+            BidRecoveryStatusDTO last = progress.get(auctionSeq);
+            progress.put(auctionSeq, last == null
+                    ? BidRecoveryStatusDTO.of(auctionSeq, FAILED, -1, 0, 0, 0, 0, 0)
+                    : BidRecoveryStatusDTO.of(auctionSeq, FAILED, last.partition(), last.startOffset(),
+                    last.endOffset(), last.currentOffset(), last.replayed(), last.admitted()));
+            log.error("[Recovery] 복구 실패 - auctionSeq={}", auctionSeq, e);
+            throw e instanceof RuntimeException re ? re : new IllegalStateException(e);
+        }
+    }
+
+    // 경매 시작 시각 이후 첫 레코드의 오프셋 (없으면 읽을 것이 없음)
+    private static long offsetAt(Consumer<Object, Object> consumer, TopicPartition tp, LocalDateTime time, long end) {
+        long timestamp = time.atZone(KoreaClock.getClock().getZone()).toInstant().toEpochMilli();
+        OffsetAndTimestamp found = consumer.offsetsForTimes(Map.of(tp, timestamp)).get(tp);
+        return found == null ? end : found.offset();
+    }
+
+    // 경매 진행 중에 만들어진 입찰만 재생 (원래도 진행 여부 확인을 통과했을 입찰)
+    private static boolean isWithin(BidEventMessage message, LocalDateTime startAt, LocalDateTime endAt) {
+        LocalDateTime bidAt = message.bidAt();
+        return bidAt != null && !bidAt.isBefore(startAt) && bidAt.isBefore(endAt);
+    }
+}
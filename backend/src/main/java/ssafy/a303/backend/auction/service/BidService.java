@@ -1,11 +1,15 @@
 package ssafy.a303.backend.auction.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ssafy.a303.backend.auction.entity.Auction;
+import ssafy.a303.backend.auction.entity.AuctionResult;
 import ssafy.a303.backend.auction.entity.Bid;
 import ssafy.a303.backend.auction.entity.BidStatus;
+import ssafy.a303.backend.auction.repository.AuctionRepository;
+import ssafy.a303.backend.auction.repository.AuctionResultRepository;
 import ssafy.a303.backend.auction.repository.BidRepository;
 import ssafy.a303.backend.common.exception.CustomException;
 import ssafy.a303.backend.common.helper.KoreaClock;
@@ -15,14 +19,15 @@ import ssafy.a303.backend.contract.repository.ContractRepository;
 import ssafy.a303.backend.property.entity.Property;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class BidService {
 
     private final BidRepository bidRepository;
+    private final AuctionRepository auctionRepository;
     private final ContractRepository contractRepository;
+    private final AuctionResultRepository auctionResultRepository;
 
     @Transactional
     public int acceptOffer(int userSeq, int auctionSeq) {
@@ -37,30 +42,30 @@ public class BidService {
                 )
                 .orElseThrow(() -> new CustomException(ErrorCode.BID_NOT_FOUND));
 
+        // 응답 마감이 지났으면 다음 순환에서 TIMEOUT 처리될 제안이므로 수락 불가
+        if (myBid.getOfferExpiresAt() != null && !now.isBefore(myBid.getOfferExpiresAt())) {
+            throw new CustomException(ErrorCode.OFFER_EXPIRED);
+        }
+
         Auction auction = myBid.getAuction();
+        if (auction.getWinnerSeq() != null) {
+            throw new CustomException(ErrorCode.OFFER_ALREADY_RESOLVED);
+        }
 
         // 2. 내 Bid를 ACCEPTED로 변경
         myBid.setStatus(BidStatus.ACCEPTED);
         myBid.setDecidedAt(now);
 
-        // 3. 같은 경매의 다른 Bid 들 LOST 처리 (OFFERED / WAITING 대상)
-        List<Bid> allBids = bidRepository.findByAuction_AuctionSeq(auctionSeq);
-
-        for (Bid bid : allBids) {
-            // 내 Bid는 건너뜀
-            if (bid.getBidSeq().equals(myBid.getBidSeq())) {
-                continue;
-            }
-
-            // 아직 결과가 안 난 상태들만 LOST 처리
-            if (bid.getStatus() != BidStatus.ACCEPTED) {
-                bid.setStatus(BidStatus.LOST);
-                bid.setDecidedAt(now);
-            }
+        // 3. 경매에 winnerSeq 설정 - version 이 바뀌었으면(동시 수락/유찰 처리) 여기서 실패
+        auction.setWinnerSeq(userSeq);
+        try {
+            auctionRepository.saveAndFlush(auction);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new CustomException(ErrorCode.OFFER_ALREADY_RESOLVED);
         }
 
-        // 4. 경매에 winnerSeq 설정
-        auction.setWinnerSeq(userSeq);
+        // 4. 같은 경매의 다른 Bid 들 LOST 처리 (OFFERED / WAITING 대상)
+        bidRepository.updateLostExcept(auctionSeq, myBid.getBidSeq(), now);
 
         // 5. 계약서 테이블 삽입
         Property p = auction.getProperty();
@@ -73,6 +78,9 @@ public class BidService {
         contract.setIsAgree(false);
 
         contractRepository.save(contract);
+
+        // 6. 결과 스냅샷에 계약 연결 (마이페이지에서 계약을 다시 찾지 않도록)
+        auctionResultRepository.updateContractSeq(auctionSeq, contract.getContractSeq());
         return contract.getContractSeq();
     }
 
@@ -92,6 +100,11 @@ public class BidService {
         // 2. 상태를 REJECTED로 변경
         bid.setStatus(BidStatus.REJECTED);
         bid.setDecidedAt(now);
+
+        // 3. 결과 스냅샷에 거절 반영 (뒤 순위 입찰자의 순위가 당겨짐)
+        if (bid.getRank() != null && bid.getRank() < AuctionResult.CANDIDATE_LIMIT) {
+            auctionResultRepository.markRejected(auctionSeq, bid.getRank());
+        }
     }
 
     public int getBidAmount(int userSeq, int auctionSeq) {
@@ -0,0 +1,137 @@
+package ssafy.a303.backend.auction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.entity.AuctionResult;
+import ssafy.a303.backend.auction.entity.BidStatus;
+import ssafy.a303.backend.auction.repository.*;
+import ssafy.a303.backend.auction.repository.BidJdbcRepository.BidRow;
+import ssafy.a303.backend.common.helper.KoreaClock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경매 종료 정산 (Redis 랭킹 → bid 테이블)
+ * - ZSET 을 청크 단위로 끊어 읽고, 청크마다 JDBC batch insert 후 커서를 저장한다.
+ * - 첫 청크를 읽기 전에 진행 중 표식을 지워 입찰 접수를 닫는다. (이후 도착한 입찰은 Lua 스크립트에서 CLOSED)
+ *   닫기 전에 페이지를 읽으면 그 사이 들어온 입찰이 이미 지나간 순위에 끼어 커서가 어긋난다.
+ * - 노드가 정산 도중 죽어도 다음 스케줄에서 저장된 커서부터 이어서 정산한다.
+ *   (커서 저장 전에 죽어 같은 청크를 다시 적재해도 중복 행은 생기지 않는다)
+ */
+@Slf4j
+@Service
+public class BidSettlementService {
+
+    private static final int LIMIT = AuctionResult.CANDIDATE_LIMIT;        // 낙찰 후보 (OFFERED/WAITING) 인원
+    private static final int LOST_RANK = 999;
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    private final BidRankRepository bidRankRepository;
+    private final BidTryCountRepository bidTryCountRepository;
+    private final AuctionInProgressRepository auctionInProgressRepository;
+    private final BidSettlementRepository bidSettlementRepository;
+    private final BidJdbcRepository bidJdbcRepository;
+    private final BidRecoveryRepository bidRecoveryRepository;
+    private final BidRecoveryService bidRecoveryService;
+    private final AuctionResultRepository auctionResultRepository;
+    private final int chunkSize;
+    private final long offerWindowMinutes;
+
+    public BidSettlementService(BidRankRepository bidRankRepository,
+                                BidTryCountRepository bidTryCountRepository,
+                                AuctionInProgressRepository auctionInProgressRepository,
+                                BidSettlementRepository bidSettlementRepository,
+                                BidJdbcRepository bidJdbcRepository,
+                                BidRecoveryRepository bidRecoveryRepository,
+                                BidRecoveryService bidRecoveryService,
+                                AuctionResultRepository auctionResultRepository,
+                                @Value("${bid.settlement.chunk-size:1000}") int chunkSize,
+                                @Value("${auction.offer.window-minutes:60}") long offerWindowMinutes) {
+        this.bidRankRepository = bidRankRepository;
+        this.bidTryCountRepository = bidTryCountRepository;
+        this.auctionInProgressRepository = auctionInProgressRepository;
+        this.bidSettlementRepository = bidSettlementRepository;
+        this.bidJdbcRepository = bidJdbcRepository;
+        this.bidRecoveryRepository = bidRecoveryRepository;
+        this.bidRecoveryService = bidRecoveryService;
+        this.auctionResultRepository = auctionResultRepository;
+        this.chunkSize = chunkSize;
+        this.offerWindowMinutes = offerWindowMinutes;
+    }
+
+    /**
+     * @return 정산을 끝까지 마쳤으면 true, 다른 노드가 정산 중이거나 입찰 Redis 복구 전이면 false
+     */
+    public boolean settle(int auctionSeq) {
+        // 이 경매의 입찰 Redis 가 유실된 뒤 복구 전이면 빈 랭킹으로 정산하지 않는다 (복구를 요청하고 보정 주기에 다시 정산)
+        if (!bidRecoveryRepository.isRecovered(auctionSeq)) {
+            log.warn("[Settlement] 입찰 Redis 복구 전 - 정산 보류 auctionSeq={}", auctionSeq);
+            bidRecoveryService.requestCheck();
+            return false;
+        }
+        if (!bidSettlementRepository.tryLock(auctionSeq, LOCK_TTL)) {
+            log.info("[Settlement] 다른 노드에서 정산 중 - auctionSeq={}", auctionSeq);
+            return false;
+        }
+
+        try {
+            // 입찰 스크립트와 같은 샤드에서 지우므로, 이 뒤로 읽는 랭킹에는 더 이상 입찰이 추가되지 않는다 (재개 시에는 이미 없음)
+            auctionInProgressRepository.deleteKey(auctionSeq);
+
+            int cursor = bidSettlementRepository.getCursor(auctionSeq);
+            if (cursor > 0) {
+                log.info("[Settlement] 정산 재개 - auctionSeq={}, cursor={}", auctionSeq, cursor);
+            }
+
+            while (true) {
+                List<BidEventMessage> chunk = bidRankRepository.getRange(auctionSeq, cursor, cursor + chunkSize - 1L);
+                if (chunk.isEmpty()) break;
+
+                bidJdbcRepository.batchInsert(auctionSeq, toRows(chunk, cursor));
+                cursor += chunk.size();
+                bidSettlementRepository.saveCursor(auctionSeq, cursor);
+                bidSettlementRepository.extendLock(auctionSeq, LOCK_TTL);
+            }
+
+            // 결과 스냅샷 (순위/금액 통계) - 이후 조회는 bid 테이블을 다시 집계하지 않는다
+            auctionResultRepository.insertSnapshot(auctionSeq, LocalDateTime.now(KoreaClock.getClock()));
+
+            log.info("[Settlement] 정산 완료 - auctionSeq={}, bids={}", auctionSeq, cursor);
+            bidRankRepository.deleteKey(auctionSeq);
+            bidTryCountRepository.deleteKey(auctionSeq);
+            bidSettlementRepository.deleteKey(auctionSeq);
+            return true;
+        } finally {
+            bidSettlementRepository.unlock(auctionSeq);
+        }
+    }
+
+    // 0 등 OFFERED(응답 마감 = 정산 시각 + 제안 응답 시간), 1 ~ 9 등 WAITING, 나머지 LOST(999)
+    private List<BidRow> toRows(List<BidEventMessage> chunk, int offset) {
+        LocalDateTime offerExpiresAt = LocalDateTime.now(KoreaClock.getClock()).plusMinutes(offerWindowMinutes);
+        List<BidRow> rows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            BidEventMessage msg = chunk.get(i);
+            int position = offset + i;
+
+            int rank;
+            BidStatus status;
+            if (position < LIMIT) {
+                rank = position;
+                status = (rank == 0) ? BidStatus.OFFERED : BidStatus.WAITING;
+            } else {
+                rank = LOST_RANK;
+                status = BidStatus.LOST;
+            }
+
+            rows.add(new BidRow(msg.userSeq(), msg.bidAt(), msg.amount().intValue(), rank, status,
+                    status == BidStatus.OFFERED ? offerExpiresAt : null));
+        }
+        return rows;
+    }
+}
@@ -1,6 +1,7 @@
 package ssafy.a303.backend.chat.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,6 +11,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -20,7 +23,7 @@ import ssafy.a303.backend.chat.dto.response.MyChatListResponseDto;
 import ssafy.a303.backend.chat.service.ChatService;
 import ssafy.a303.backend.common.response.ResponseDTO;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Tag(name = "1:1 채팅")
 @RestController
@@ -107,8 +110,12 @@ public class ChatController {
      * 내 채팅방 목록 조회
      */
     @Operation(
-            summary = "내 채팅방 목록 조회",
-            description = "로그인한 사용자의 전체 채팅방 목록을 조회합니다.",
+            summary = "내 채팅방 목록 조회 (무한 스크롤)",
+            description = """
+                    로그인한 사용자의 채팅방 목록을 마지막 활동 시각 내림차순으로 조회합니다.
+                    - 다음 페이지는 마지막 항목의 lastActivityAt, roomSeq 를 커서로 전달합니다.
+                    - 첫 페이지는 커서를 보내지 않습니다.
+                    """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
@@ -124,22 +131,28 @@ public class ChatController {
                     {
                       "status": 200,
                       "message": "내 채팅 목록을 불러왔습니다.",
-                      "data": [
-                        {
-                          "roomSeq": 1,
-                          "partner": {
-                            "userSeq": 2,
-                            "name": "홍길동",
-                            "nickname": "집주인",
-                            "profileImg": "https://s3.amazonaws.com/bucket/profile.jpg"
-                          },
-                          "lastMessage": {
-                            "content": "안녕하세요",
-                            "sentAt": "2025-11-06T10:30:00"
-                          },
-                          "unreadCount": 3
-                        }
-                      ]
+                      "data": {
+                        "content": [
+                          {
+                            "roomSeq": 1,
+                            "partner": {
+                              "userSeq": 2,
+                              "name": "홍길동",
+                              "nickname": "집주인",
+                              "profileImg": "https://s3.amazonaws.com/bucket/profile.jpg"
+                            },
+                            "lastMessage": {
+                              "content": "안녕하세요",
+                              "sentAt": "2025-11-06T10:30:00"
+                            },
+                            "unreadCount": 3,
+                            "lastActivityAt": "2025-11-06T10:30:00"
+                          }
+                        ],
+                        "size": 20,
+                        "first": true,
+                        "last": true
+                      }
                     }
                     """
                             )
@@ -147,18 +160,66 @@ public class ChatController {
             )
     })
     @GetMapping("/my/rooms")
-    public ResponseEntity<ResponseDTO<List<MyChatListResponseDto>>> getMyChatRooms(
-            @AuthenticationPrincipal Integer userSeq) {
-        List<MyChatListResponseDto> rooms = chatService.getMyChatRooms(userSeq);
+    public ResponseEntity<ResponseDTO<Slice<MyChatListResponseDto>>> getMyChatRooms(
+            @AuthenticationPrincipal Integer userSeq,
+            @Parameter(description = "다음 페이지 커서(마지막 항목의 lastActivityAt). 첫 페이지면 미전송")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @Parameter(description = "다음 페이지 커서(마지막 항목의 roomSeq). 첫 페이지면 미전송")
+            @RequestParam(required = false) Integer cursorRoomSeq,
+            @Parameter(description = "페이지 크기, 기본 20 (최대 50)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        Slice<MyChatListResponseDto> rooms = chatService.getMyChatRooms(userSeq, cursorAt, cursorRoomSeq, size);
         return ResponseDTO.ok(rooms, "내 채팅 목록을 불러왔습니다.");
     }
 
+    /**
+     * 내 채팅방 하나 조회
+     */
+    @Operation(
+            summary = "내 채팅방 조회",
+            description = """
+                    채팅 목록 항목과 같은 형태로 채팅방 하나의 상대방, 최근 메시지, 읽지 않은 메시지 수를 조회합니다.
+                    - 목록에서 아직 불러오지 않은 방을 링크/알림으로 바로 열 때 사용합니다.
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = MyChatListResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "채팅방 참여자가 아님",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "채팅방을 찾을 수 없음",
+                    content = @Content()
+            )
+    })
+    @GetMapping("/room/{roomSeq}")
+    public ResponseEntity<ResponseDTO<MyChatListResponseDto>> getMyChatRoom(
+            @AuthenticationPrincipal Integer userSeq,
+            @PathVariable Integer roomSeq) {
+        MyChatListResponseDto room = chatService.getMyChatRoom(userSeq, roomSeq);
+        return ResponseDTO.ok(room, "채팅방을 불러왔습니다.");
+    }
+
     /**
      * 특정 채팅방 메시지 기록 조회
      */
     @Operation(
-            summary = "채팅방 메시지 기록 조회",
-            description = "특정 채팅방의 전체 메시지 기록을 조회합니다.",
+            summary = "채팅방 메시지 기록 조회 (무한 스크롤)",
+            description = """
+                    특정 채팅방의 메시지 기록을 최신 메시지부터 과거 방향으로 size 건씩 조회합니다.
+                    - 각 페이지의 메시지는 시간순으로 정렬되어 있습니다.
+                    - 이전 페이지는 받은 메시지 중 가장 오래된 messageSeq 를 before 로 전달합니다.
+                    """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
@@ -174,25 +235,35 @@ public class ChatController {
                                 {
                                   "status": 200,
                                   "message": "채팅 내역을 불러왔습니다.",
-                                  "data": [
-                                    {
-                                      "messageSeq": 1,
-                                      "roomSeq": 1,
-                                      "sender": {
-                                        "userSeq": 2,
-                                        "name": "홍길동",
-                                        "nickname": "집주인",
-                                        "profileImg": "https://s3.amazonaws.com/bucket/profile.jpg"
-                                      },
-                                      "content": "안녕하세요",
-                                      "sentAt": "2025-11-06T10:30:00"
-                                    }
-                                  ]
+                                  "data": {
+                                    "content": [
+                                      {
+                                        "messageSeq": 1,
+                                        "roomSeq": 1,
+                                        "sender": {
+                                          "userSeq": 2,
+                                          "name": "홍길동",
+                                          "nickname": "집주인",
+                                          "profileImg": "https://s3.amazonaws.com/bucket/profile.jpg"
+                                        },
+                                        "content": "안녕하세요",
+                                        "sentAt": "2025-11-06T10:30:00"
+                                      }
+                                    ],
+                                    "size": 30,
+                                    "first": true,
+                                    "last": true
+                                  }
                                 }
                                 """
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "채팅방 참여자가 아님",
+                    content = @Content()
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "채팅방을 찾을 수 없음",
@@ -212,13 +283,61 @@ public class ChatController {
             )
     })
     @GetMapping("/room/{roomSeq}/history")
-    public ResponseEntity<ResponseDTO<List<ChatMessageResponseDto>>> getChatHistory(
-            @PathVariable Integer roomSeq) {
+    public ResponseEntity<ResponseDTO<Slice<ChatMessageResponseDto>>> getChatHistory(
+            @AuthenticationPrincipal Integer userSeq,
+            @PathVariable Integer roomSeq,
+            @Parameter(description = "이 messageSeq 이전 메시지를 조회. 첫 페이지면 미전송")
+            @RequestParam(required = false) Integer before,
+            @Parameter(description = "페이지 크기, 기본 30 (최대 100)", example = "30") @RequestParam(defaultValue = "30") int size) {
 
-        List<ChatMessageResponseDto> messages = chatService.getChatHistory(roomSeq);
+        Slice<ChatMessageResponseDto> messages = chatService.getChatHistory(roomSeq, userSeq, before, size);
         return ResponseDTO.ok(messages, "채팅 내역을 불러왔습니다.");
     }
 
+    /**
+     * 재연결 시 놓친 메시지 조회
+     */
+    @Operation(
+            summary = "놓친 메시지 조회",
+            description = """
+                    STOMP 재연결 시 마지막으로 받은 메시지 이후의 메시지만 시간순으로 조회합니다.
+                    - after 에 마지막으로 받은 messageSeq 를 전달합니다.
+                    - last 가 false 면 받은 마지막 messageSeq 로 다시 호출합니다.
+                    - 아직 DB 에 적재되지 않은 메시지(write-behind)도 포함됩니다.
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ChatMessageResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "채팅방 참여자가 아님",
+                    content = @Content()
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "채팅방을 찾을 수 없음",
+                    content = @Content()
+            )
+    })
+    @GetMapping("/room/{roomSeq}/messages")
+    public ResponseEntity<ResponseDTO<Slice<ChatMessageResponseDto>>> getMessagesAfter(
+            @AuthenticationPrincipal Integer userSeq,
+            @PathVariable Integer roomSeq,
+            @Parameter(description = "마지막으로 받은 messageSeq", example = "120") @RequestParam Integer after,
+            @Parameter(description = "페이지 크기, 기본 100 (최대 100)", example = "100") @RequestParam(defaultValue = "100") int size) {
+
+        Slice<ChatMessageResponseDto> messages = chatService.getMessagesAfter(roomSeq, userSeq, after, size);
+        return ResponseDTO.ok(messages, "놓친 메시지를 불러왔습니다.");
+    }
+
     /**
      * 해당 채팅방 메시지 읽음처리
      */
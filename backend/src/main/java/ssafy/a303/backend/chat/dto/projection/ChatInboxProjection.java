@@ -0,0 +1,15 @@
+package ssafy.a303.backend.chat.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface ChatInboxProjection {
+    Integer getRoomSeq();
+    String getLastMessageContent();
+    LocalDateTime getLastMessageAt();
+    LocalDateTime getLastActivityAt();
+    Integer getPartnerSeq();
+    String getPartnerName();
+    String getPartnerNickname();
+    String getPartnerProfileImg();
+    Long getUnreadCount();
+}
@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
  * - 상대방 정보
  * - 최근 메시지 및 보낸 시각
  * - 읽지 않은 메시지 개수
+ * - 마지막 활동 시각 (목록 정렬/커서 기준)
  */
 @Getter
 @NoArgsConstructor
@@ -34,6 +35,9 @@ public class MyChatListResponseDto {
     @Schema(description = "읽지 않은 메시지 개수", example = "3")
     private Integer unreadCount;
 
+    @Schema(description = "마지막 활동 시각 (다음 페이지 커서)", example = "2025-11-06T10:30:00")
+    private LocalDateTime lastActivityAt;
+
 
     /**
      * 상대방 정보 DTO
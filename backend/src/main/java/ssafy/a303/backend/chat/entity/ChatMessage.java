@@ -6,15 +6,19 @@ import ssafy.a303.backend.common.entity.BaseTimeEntity;
 import ssafy.a303.backend.user.entity.User;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * 채팅 메시지 (chat_message)
  * - ERD: message_seq(PK), room_seq(FK), user_seq(FK), content, sent_at
+ * - 안 읽은 메시지 수는 (room_seq, message_seq) 인덱스 범위 COUNT 로 계산 (ChatParticipant.lastReadMessageSeq 초과)
  */
 @Entity
-@Table(name = "chat_message")
+@Table(
+        name = "chat_message",
+        indexes = {
+                @Index(name = "idx_chat_message_room_message", columnList = "room_seq, message_seq")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,12 +44,4 @@ public class ChatMessage extends BaseTimeEntity {
 
     @Column(name = "sent_at", nullable = false)
     private LocalDateTime sentAt;
-
-    /**
-     * 읽음 상태 목록 (message_read_status)
-     * - 메시지 삭제 시 읽음 상태도 함께 삭제
-     */
-    @OneToMany(mappedBy = "chatMessage", cascade = CascadeType.REMOVE)
-    @Builder.Default
-    private List<MessageReadStatus> readStatuses = new ArrayList<>();
 }
@@ -7,7 +7,7 @@ import ssafy.a303.backend.user.entity.User;
 
 /**
  * 채팅 참여자 (chat_participant)
- * - ERD: participant_seq(PK), room_seq(FK), user_seq(FK)
+ * - ERD: participant_seq(PK), room_seq(FK), user_seq(FK), last_read_message_seq
  * - 1:1 방이라서 "참여자 2명"만 존재하도록 서비스/도메인 규칙으로 제한 권장
  */
 @Entity
@@ -31,5 +31,13 @@ public class ChatParticipant extends BaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_seq", nullable = false)
     private User user;
+
+    /**
+     * 마지막으로 읽은 메시지 ID (읽음 워터마크)
+     * - 이 ID 이하 메시지는 읽음, 초과하면서 상대가 보낸 메시지는 안 읽음
+     * - null 이면 아직 읽은 메시지 없음
+     */
+    @Column(name = "last_read_message_seq")
+    private Integer lastReadMessageSeq;
 }
 
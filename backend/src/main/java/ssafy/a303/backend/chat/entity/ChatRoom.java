@@ -3,8 +3,10 @@ package ssafy.a303.backend.chat.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import ssafy.a303.backend.common.entity.BaseTimeEntity;
+import ssafy.a303.backend.common.helper.KoreaClock;
 import ssafy.a303.backend.property.entity.Property;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,9 +14,15 @@ import java.util.List;
  * 채팅방 (chat_room)
  * - ERD: room_seq(PK), name
  * - 1:1 채팅 방이지만, ERD에는 제약(UNIQUE 2인만)은 없음 → 서비스 레벨에서 1:1만 생성하도록 보장
+ * - 채팅 목록을 한 번에 조회하기 위해 마지막 메시지 요약(last_message_*, last_activity_at)을 메시지 저장 시 함께 갱신
  */
 @Entity
-@Table(name = "chat_room")
+@Table(
+        name = "chat_room",
+        indexes = {
+                @Index(name = "idx_chat_room_last_activity", columnList = "last_activity_at, room_seq")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,6 +44,23 @@ public class ChatRoom extends BaseTimeEntity {
     @Column(nullable = false, length = 100)
     private String name;
 
+    /** 마지막 메시지 ID (없으면 null) */
+    @Column(name = "last_message_seq")
+    private Integer lastMessageSeq;
+
+    /** 마지막 메시지 내용 */
+    @Column(name = "last_message_content", length = 500)
+    private String lastMessageContent;
+
+    /** 마지막 메시지 전송 시각 */
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    /** 마지막 활동 시각 (메시지가 없으면 방 생성 시각) - 채팅 목록 정렬/커서 기준 */
+    @Column(name = "last_activity_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime lastActivityAt = LocalDateTime.now(KoreaClock.getClock());
+
     /**
      * 참여자 목록 (chat_participant)
      * - ERD: N:1 (participant -> room)
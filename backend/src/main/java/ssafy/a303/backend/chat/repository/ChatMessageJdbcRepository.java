@@ -0,0 +1,61 @@
+package ssafy.a303.backend.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * chat_message 대량 적재 전용 (JDBC batch, write-behind)
+ * ChatMessage 엔티티는 IDENTITY 전략이라 Hibernate 가 insert 를 batch 로 묶지 못하므로 JDBC 로 직접 적재한다.
+ * message_seq 는 스트림(ChatMessageStreamRepository)에서 발급한 값을 그대로 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    // 같은 메시지를 다시 적재해도(pending 재처리) 중복되지 않고, 없는 채팅방의 메시지는 건너뛴다.
+    private static final String INSERT_SQL = """
+            insert into chat_message (message_seq, room_seq, user_seq, content, sent_at, created_at, updated_at)
+            select ?, ?, ?, ?, ?, ?, ?
+            where exists (select 1 from chat_room where room_seq = ?)
+            on conflict (message_seq) do nothing
+            """;
+
+    // 동기 저장(IDENTITY)으로 되돌려도 발급된 ID 와 겹치지 않도록 시퀀스를 최대값으로 맞춘다.
+    private static final String SYNC_SEQUENCE_SQL = """
+            select setval(pg_get_serial_sequence('chat_message', 'message_seq'),
+                          (select max(message_seq) from chat_message))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MessageRow(int messageSeq, int roomSeq, int senderSeq, String content, LocalDateTime sentAt) {
+    }
+
+    public void batchInsert(List<MessageRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            Timestamp sentAt = Timestamp.valueOf(row.sentAt());
+            ps.setInt(1, row.messageSeq());
+            ps.setInt(2, row.roomSeq());
+            ps.setInt(3, row.senderSeq());
+            ps.setString(4, row.content());
+            ps.setTimestamp(5, sentAt);
+            ps.setTimestamp(6, sentAt);
+            ps.setTimestamp(7, sentAt);
+            ps.setInt(8, row.roomSeq());
+        });
+    }
+
+    public void syncSequence() {
+        jdbcTemplate.queryForObject(SYNC_SEQUENCE_SQL, Long.class);
+    }
+
+    public long findMaxMessageSeq() {
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(message_seq), 0) from chat_message", Long.class);
+        return max == null ? 0 : max;
+    }
+}
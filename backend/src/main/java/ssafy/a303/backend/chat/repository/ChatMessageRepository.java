@@ -1,23 +1,84 @@
 package ssafy.a303.backend.chat.repository;
 
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ssafy.a303.backend.chat.entity.ChatMessage;
 import ssafy.a303.backend.chat.entity.ChatRoom;
 import ssafy.a303.backend.user.entity.User;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Integer> {
 
-    /** 특정 채팅방의 메시지를 시간순으로 정렬해 조회 */
-    List<ChatMessage> findByChatRoomOrderBySentAtAsc(ChatRoom chatRoom);
+    /**
+     * 메시지 ID 이전 페이지 (최신순) - 과거 기록 스크롤
+     * - (room_seq, message_seq) 인덱스 범위 조회, 발신자 함께 로딩
+     */
+    @Query("""
+        SELECT m
+        FROM ChatMessage m
+        JOIN FETCH m.sender
+        WHERE m.chatRoom.id = :roomSeq
+          AND m.id < :beforeMessageSeq
+        ORDER BY m.id DESC
+        """)
+    Slice<ChatMessage> findPageBefore(@Param("roomSeq") Integer roomSeq,
+                                      @Param("beforeMessageSeq") Integer beforeMessageSeq,
+                                      Pageable pageable);
+
+    /**
+     * 메시지 ID 이후 페이지 (오래된순) - 재연결 시 놓친 메시지 채우기
+     */
+    @Query("""
+        SELECT m
+        FROM ChatMessage m
+        JOIN FETCH m.sender
+        WHERE m.chatRoom.id = :roomSeq
+          AND m.id > :afterMessageSeq
+        ORDER BY m.id ASC
+        """)
+    Slice<ChatMessage> findPageAfter(@Param("roomSeq") Integer roomSeq,
+                                     @Param("afterMessageSeq") Integer afterMessageSeq,
+                                     Pageable pageable);
 
     /** 특정 채팅방의 가장 최근 메시지 조회 */
     Optional<ChatMessage> findTopByChatRoomOrderBySentAtDesc(ChatRoom chatRoom);
 
+    /**
+     * 안 읽은 메시지 수 (읽음 워터마크 이후 상대가 보낸 메시지)
+     * - (room_seq, message_seq) 인덱스 범위 COUNT
+     */
+    @Query("""
+        SELECT COUNT(m)
+        FROM ChatMessage m
+        WHERE m.chatRoom.id = :roomSeq
+          AND m.id > :lastReadMessageSeq
+          AND m.sender.userSeq <> :userSeq
+        """)
+    long countUnread(@Param("roomSeq") Integer roomSeq,
+                     @Param("userSeq") Integer userSeq,
+                     @Param("lastReadMessageSeq") Integer lastReadMessageSeq);
+
+    /**
+     * countUnread 에서 excluded(write-behind 스트림에서 따로 센 메시지)를 뺀 수
+     */
+    @Query("""
+        SELECT COUNT(m)
+        FROM ChatMessage m
+        WHERE m.chatRoom.id = :roomSeq
+          AND m.id > :lastReadMessageSeq
+          AND m.sender.userSeq <> :userSeq
+          AND m.id NOT IN :excluded
+        """)
+    long countUnreadExcluding(@Param("roomSeq") Integer roomSeq,
+                              @Param("userSeq") Integer userSeq,
+                              @Param("lastReadMessageSeq") Integer lastReadMessageSeq,
+                              @Param("excluded") Collection<Integer> excluded);
+
 }
@@ -0,0 +1,264 @@
+package ssafy.a303.backend.chat.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 1:1 채팅 write-behind 스트림 (채팅 Redis DB1)
+ * - chat-message-seq : 메시지 ID 발급 카운터 (chat_message.message_seq 로 그대로 저장)
+ *   카운터가 없으면(Redis 초기화 등) 발급하지 않고, 서비스가 스트림과 DB 의 최대 ID 로 복구한 뒤 다시 발급한다.
+ * - chat-stream::room::{roomSeq} : 방별 Redis Stream. 필드 seq, sender, content, sentAt
+ * - chat-stream::dirty : 적재할 메시지가 남은 방 목록 (append 가 추가, 비워진 방은 release 가 제거)
+ * - 모든 노드가 같은 consumer group 으로 읽으므로 메시지 하나는 한 노드만 적재하고,
+ *   ACK 전에 죽은 노드의 메시지는 pending 으로 남아 다른 노드가 claim 한다.
+ * - consumer group 은 append 가 스트림을 새로 만들 때 함께 만든다. 그래도 그룹이 없으면(NOGROUP, 이전 버전이 만든 스트림 등)
+ *   읽기/claim 에서 그룹을 만들고 한 번 더 시도한다. (노드 로컬 캐시를 두지 않아 Redis 가 비워져도 다시 만든다)
+ */
+@Slf4j
+@Repository
+public class ChatMessageStreamRepository {
+
+    public static final String GROUP = "chat-writer";
+
+    private static final String SEQ_KEY = "chat-message-seq";
+    private static final String STREAM_KEY_FORMAT = "chat-stream::room::%s";
+    private static final String DIRTY_KEY = "chat-stream::dirty";
+
+    /*
+     * KEYS[1] = 카운터, KEYS[2] = 방 스트림, KEYS[3] = dirty 방 목록
+     * ARGV[1] = roomSeq, ARGV[2] = senderSeq, ARGV[3] = content, ARGV[4] = sentAt, ARGV[5] = consumer group
+     * 카운터가 없으면 처음부터 다시 발급하지 않도록(이미 쓴 ID 와 겹쳐 적재 시 무시됨) 아무것도 하지 않는다.
+     * 스트림이 없으면 group 과 함께 만든다. (0 부터 읽으므로 이번 메시지도 전달된다)
+     * return 발급한 message_seq, 카운터가 없으면 -1
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local seq = redis.call('INCR', KEYS[1])
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('XGROUP', 'CREATE', KEYS[2], ARGV[5], '0', 'MKSTREAM')
+            end
+            redis.call('XADD', KEYS[2], '*', 'seq', seq, 'sender', ARGV[2], 'content', ARGV[3], 'sentAt', ARGV[4])
+            redis.call('SADD', KEYS[3], ARGV[1])
+            return seq
+            """, Long.class);
+
+    /*
+     * KEYS[1] = 카운터, ARGV[1] = 이미 발급된 최대 message_seq
+     * 카운터를 올리기만 하므로 여러 노드가 동시에 복구해도 이미 발급한 ID 아래로 내려가지 않는다.
+     */
+    private static final RedisScript<Long> RAISE_SEQ_SCRIPT = new DefaultRedisScript<>("""
+            local floor = tonumber(ARGV[1])
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if current < floor then
+                redis.call('SET', KEYS[1], floor)
+                return floor
+            end
+            return current
+            """, Long.class);
+
+    /*
+     * KEYS[1] = 방 스트림, ARGV[1] = consumer group
+     * 이미 있으면(BUSYGROUP) 0
+     */
+    private static final RedisScript<Long> CREATE_GROUP_SCRIPT = new DefaultRedisScript<>("""
+            local result = redis.pcall('XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM')
+            if type(result) == 'table' and result.err then
+                return 0
+            end
+            return 1
+            """, Long.class);
+
+    /*
+     * KEYS[1] = 방 스트림, KEYS[2] = dirty 방 목록, ARGV[1] = roomSeq
+     * append 는 XADD 뒤에 SADD 하므로, 비어 있을 때만 지우면 새 메시지가 있는 방이 목록에서 빠지지 않는다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('XLEN', KEYS[1]) == 0 then
+                return redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    public ChatMessageStreamRepository(@Qualifier("chatRedisTemplate") StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * @return 발급한 message_seq, 카운터가 유실되었으면 empty (raiseSequence 로 복구 후 다시 호출)
+     */
+    public OptionalInt append(int roomSeq, int senderSeq, String content, LocalDateTime sentAt) {
+        Long seq = redis.execute(
+                APPEND_SCRIPT,
+                List.of(SEQ_KEY, streamKey(roomSeq), DIRTY_KEY),
+                String.valueOf(roomSeq),
+                String.valueOf(senderSeq),
+                content,
+                sentAt.toString(),
+                GROUP
+        );
+        if (seq == null) {
+            throw new IllegalStateException("채팅 메시지 ID 발급 실패");
+        }
+        return seq < 0 ? OptionalInt.empty() : OptionalInt.of(Math.toIntExact(seq));
+    }
+
+    /**
+     * 카운터를 floor 이상으로 올린다. (없으면 floor 로 만든다)
+     */
+    public void raiseSequence(long floor) {
+        redis.execute(RAISE_SEQ_SCRIPT, List.of(SEQ_KEY), String.valueOf(floor));
+    }
+
+    /**
+     * 방 스트림에 남은(아직 적재가 끝나지 않은) 메시지 전체. 적재되면 지워지므로 적재 주기만큼의 메시지만 남는다.
+     */
+    public List<MapRecord<String, String, String>> findUnflushed(int roomSeq) {
+        List<MapRecord<String, String, String>> records = ops().range(streamKey(roomSeq), Range.unbounded());
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * 아직 적재되지 않은(스트림에 남은) 메시지 중 최대 message_seq, 없으면 0
+     */
+    public long findMaxStreamSeq() {
+        long max = 0;
+        for (Integer roomSeq : dirtyRooms()) {
+            for (MapRecord<String, String, String> record : findUnflushed(roomSeq)) {
+                String seq = record.getValue().get("seq");
+                if (seq != null) {
+                    max = Math.max(max, Long.parseLong(seq));
+                }
+            }
+        }
+        return max;
+    }
+
+    public List<Integer> dirtyRooms() {
+        Set<String> members = redis.opsForSet().members(DIRTY_KEY);
+        if (members == null || members.isEmpty()) return List.of();
+
+        List<Integer> rooms = new ArrayList<>(members.size());
+        for (String member : members) {
+            rooms.add(Integer.valueOf(member));
+        }
+        return rooms;
+    }
+
+    /**
+     * 아직 전달되지 않은 메시지를 방마다 최대 count 건 읽는다. (읽은 메시지는 ACK 전까지 이 consumer 의 pending)
+     */
+    public List<MapRecord<String, String, String>> readNew(List<Integer> rooms, String consumer, int count) {
+        if (rooms.isEmpty()) return List.of();
+
+        List<StreamOffset<String>> offsets = new ArrayList<>(rooms.size());
+        for (Integer roomSeq : rooms) {
+            offsets.add(StreamOffset.create(streamKey(roomSeq), ReadOffset.lastConsumed()));
+        }
+
+        List<MapRecord<String, String, String>> records = withGroups(rooms, () -> ops().read(
+                Consumer.from(GROUP, consumer), StreamReadOptions.empty().count(count), toArray(offsets)));
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * minIdle 이상 ACK 되지 않은 메시지를 consumer 에게 넘긴다. (적재 도중 종료된 노드 / 적재 실패한 메시지)
+     */
+    public List<MapRecord<String, String, String>> claimStale(int roomSeq, String consumer, Duration minIdle, int count) {
+        String key = streamKey(roomSeq);
+
+        PendingMessages pending = withGroups(List.of(roomSeq), () -> ops().pending(key, GROUP, Range.unbounded(), count));
+        RecordId[] ids = pending.stream()
+                .filter(p -> p.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (ids.length == 0) return List.of();
+
+        List<MapRecord<String, String, String>> claimed = ops().claim(key, GROUP, consumer, minIdle, ids);
+        return claimed == null ? List.of() : claimed.stream().filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * DB 적재가 끝난 메시지를 ACK 하고 스트림에서 지운 뒤, 비워진 방은 dirty 목록에서 뺀다.
+     */
+    public void acknowledge(List<MapRecord<String, String, String>> records) {
+        Map<String, List<RecordId>> byStream = new HashMap<>();
+        for (MapRecord<String, String, String> record : records) {
+            byStream.computeIfAbsent(record.getStream(), k -> new ArrayList<>()).add(record.getId());
+        }
+
+        byStream.forEach((key, ids) -> {
+            RecordId[] array = ids.toArray(RecordId[]::new);
+            ops().acknowledge(key, GROUP, array);
+            ops().delete(key, array);
+        });
+    }
+
+    public void release(Collection<Integer> rooms) {
+        for (Integer roomSeq : rooms) {
+            redis.execute(RELEASE_SCRIPT, List.of(streamKey(roomSeq), DIRTY_KEY), String.valueOf(roomSeq));
+        }
+    }
+
+    public static int roomOf(MapRecord<String, String, String> record) {
+        String key = record.getStream();
+        return Integer.parseInt(key.substring(key.lastIndexOf(':') + 1));
+    }
+
+    /**
+     * NOGROUP 으로 실패하면 방마다 group 을 만들고(이미 있으면 그대로) 한 번 더 실행한다.
+     */
+    private <T> T withGroups(List<Integer> rooms, Supplier<T> command) {
+        try {
+            return command.get();
+        } catch (RuntimeException e) {
+            if (!isNoGroup(e)) throw e;
+            for (Integer roomSeq : rooms) {
+                Long created = redis.execute(CREATE_GROUP_SCRIPT, List.of(streamKey(roomSeq)), GROUP);
+                if (Long.valueOf(1).equals(created)) {
+                    log.info("[ChatStream] consumer group 재생성 - roomSeq={}", roomSeq);
+                }
+            }
+            return command.get();
+        }
+    }
+
+    private static boolean isNoGroup(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("NOGROUP")) return true;
+        }
+        return false;
+    }
+
+    /*
+     * StreamOperations.read 가 StreamOffset<String>... 만 받는데 제네릭 배열은 직접 만들 수 없어 raw 배열로 만든다.
+     * 원소가 모두 StreamOffset<String> 인 리스트에서만 만들고 밖으로 내보내지 않으므로 안전하다.
+     */
+    @SuppressWarnings("unchecked")
+    private static StreamOffset<String>[] toArray(List<StreamOffset<String>> offsets) {
+        return offsets.toArray(new StreamOffset[0]);
+    }
+
+    private StreamOperations<String, String, String> ops() {
+        return redis.opsForStream();
+    }
+
+    private static String streamKey(int roomSeq) {
+        return STREAM_KEY_FORMAT.formatted(roomSeq);
+    }
+}
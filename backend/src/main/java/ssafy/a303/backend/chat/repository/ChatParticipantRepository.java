@@ -1,13 +1,18 @@
 package ssafy.a303.backend.chat.repository;
 
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ssafy.a303.backend.chat.dto.projection.ChatInboxProjection;
 import ssafy.a303.backend.chat.entity.ChatParticipant;
 import ssafy.a303.backend.chat.entity.ChatRoom;
 import ssafy.a303.backend.user.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +22,67 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
     /** 현재 사용자가 속한 모든 채팅방 반환 */
     List<ChatParticipant> findAllByUser(User user);
 
+    /**
+     * 내 채팅 목록 (쿼리 1회)
+     * - 방 요약(마지막 메시지/활동 시각) + 상대방 + 안 읽은 수(워터마크 이후 상대 메시지 인덱스 범위 COUNT)
+     * - 마지막 활동 시각 내림차순, 커서(lastActivityAt, roomSeq) 이후만 조회
+     */
+    @Query("""
+        SELECT r.id AS roomSeq,
+               r.lastMessageContent AS lastMessageContent,
+               r.lastMessageAt AS lastMessageAt,
+               r.lastActivityAt AS lastActivityAt,
+               u.userSeq AS partnerSeq,
+               u.name AS partnerName,
+               u.nickname AS partnerNickname,
+               u.profileImg AS partnerProfileImg,
+               (SELECT COUNT(m)
+                  FROM ChatMessage m
+                 WHERE m.chatRoom.id = r.id
+                   AND m.id > COALESCE(me.lastReadMessageSeq, 0)
+                   AND m.sender.userSeq <> :userSeq) AS unreadCount
+        FROM ChatParticipant me
+        JOIN me.chatRoom r
+        LEFT JOIN ChatParticipant other ON other.chatRoom.id = r.id AND other.user.userSeq <> :userSeq
+        LEFT JOIN other.user u
+        WHERE me.user.userSeq = :userSeq
+          AND (:cursorAt IS NULL
+               OR r.lastActivityAt < :cursorAt
+               OR (r.lastActivityAt = :cursorAt AND r.id < :cursorRoomSeq))
+        ORDER BY r.lastActivityAt DESC, r.id DESC
+        """)
+    Slice<ChatInboxProjection> findInbox(@Param("userSeq") Integer userSeq,
+                                         @Param("cursorAt") LocalDateTime cursorAt,     // 첫 페이지는 null 전달
+                                         @Param("cursorRoomSeq") Integer cursorRoomSeq,
+                                         Pageable pageable);                             // PageRequest.of(0, size)
+
+    /**
+     * 내 채팅 목록 항목 하나 (목록 페이지에 없는 방을 바로 열 때)
+     */
+    @Query("""
+        SELECT r.id AS roomSeq,
+               r.lastMessageContent AS lastMessageContent,
+               r.lastMessageAt AS lastMessageAt,
+               r.lastActivityAt AS lastActivityAt,
+               u.userSeq AS partnerSeq,
+               u.name AS partnerName,
+               u.nickname AS partnerNickname,
+               u.profileImg AS partnerProfileImg,
+               (SELECT COUNT(m)
+                  FROM ChatMessage m
+                 WHERE m.chatRoom.id = r.id
+                   AND m.id > COALESCE(me.lastReadMessageSeq, 0)
+                   AND m.sender.userSeq <> :userSeq) AS unreadCount
+        FROM ChatParticipant me
+        JOIN me.chatRoom r
+        LEFT JOIN ChatParticipant other ON other.chatRoom.id = r.id AND other.user.userSeq <> :userSeq
+        LEFT JOIN other.user u
+        WHERE me.user.userSeq = :userSeq
+          AND r.id = :roomSeq
+        """)
+    Optional<ChatInboxProjection> findInboxRoom(@Param("userSeq") Integer userSeq,
+                                                @Param("roomSeq") Integer roomSeq);
+
     /** 방과 사용자로 존재 여부 확인 (접근권한 검증용) */
     boolean existsByChatRoomAndUser(ChatRoom chatRoom, User user);
 
@@ -26,6 +92,27 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
     /** 특정 채팅방에 현재 로그인한 사용자가 참여하고 있는 이력 반환*/
     Optional<ChatParticipant> findByChatRoomAndUser(ChatRoom chatRoom, User user);
 
+    /** 방 ID + 사용자 ID 로 참여 이력 반환 */
+    Optional<ChatParticipant> findByChatRoomIdAndUserUserSeq(Integer roomSeq, Integer userSeq);
+
+    boolean existsByChatRoomIdAndUserUserSeq(Integer roomSeq, Integer userSeq);
+
+    /**
+     * 읽음 처리: 워터마크를 방의 마지막 메시지 ID 로 올림 (UPDATE 1회)
+     * - 메시지 ID 는 증가만 하므로 워터마크도 뒤로 가지 않는다. (메시지가 없으면 그대로)
+     * @return 갱신된 행 수 (0 이면 참여자가 아님)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE ChatParticipant cp
+        SET cp.lastReadMessageSeq = COALESCE(
+                (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom.id = :roomSeq),
+                cp.lastReadMessageSeq)
+        WHERE cp.chatRoom.id = :roomSeq
+          AND cp.user.userSeq = :userSeq
+        """)
+    int markAllRead(@Param("roomSeq") Integer roomSeq, @Param("userSeq") Integer userSeq);
+
     /**
      * 1:1 채팅 존재 여부 확인
      * 두 유저가 동시에 포함된 동일한 방이 존재하면 그 방 반환
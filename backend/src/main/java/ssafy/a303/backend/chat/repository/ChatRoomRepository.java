@@ -1,9 +1,33 @@
 package ssafy.a303.backend.chat.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ssafy.a303.backend.chat.entity.ChatRoom;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Integer> {
+
+    /**
+     * 마지막 메시지 요약 갱신 (채팅 목록용)
+     * - 더 최근 메시지로만 갱신하므로 동시에 저장된 메시지 순서가 뒤바뀌어도 마지막 메시지가 유지된다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE ChatRoom r
+        SET r.lastMessageSeq = :messageSeq,
+            r.lastMessageContent = :content,
+            r.lastMessageAt = :sentAt,
+            r.lastActivityAt = :sentAt
+        WHERE r.id = :roomSeq
+          AND (r.lastMessageSeq IS NULL OR r.lastMessageSeq < :messageSeq)
+        """)
+    int updateLastMessage(@Param("roomSeq") Integer roomSeq,
+                          @Param("messageSeq") Integer messageSeq,
+                          @Param("content") String content,
+                          @Param("sentAt") LocalDateTime sentAt);
 }
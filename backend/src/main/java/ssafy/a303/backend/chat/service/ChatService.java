@@ -5,7 +5,11 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import ssafy.a303.backend.chat.dto.projection.ChatInboxProjection;
 import ssafy.a303.backend.chat.dto.request.ChatMessageRequestDto;
 import ssafy.a303.backend.chat.dto.request.ChatRoomCreateRequestDto;
 import ssafy.a303.backend.chat.dto.response.ChatMessageResponseDto;
@@ -14,6 +18,8 @@ import ssafy.a303.backend.chat.dto.response.ChatRoomResponseDto;
 import ssafy.a303.backend.chat.dto.response.MyChatListResponseDto;
 import ssafy.a303.backend.chat.entity.*;
 import ssafy.a303.backend.chat.repository.*;
+import ssafy.a303.backend.chat.repository.ChatMessageJdbcRepository.MessageRow;
+import ssafy.a303.backend.common.config.StompPrincipal;
 import ssafy.a303.backend.common.exception.CustomException;
 import ssafy.a303.backend.common.helper.KoreaClock;
 import ssafy.a303.backend.common.response.ErrorCode;
@@ -32,33 +38,36 @@ import java.util.*;
 @Log4j2
 public class ChatService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatParticipantRepository chatParticipantRepository;
-    private final MessageReadStatusRepository messageReadStatusRepository;
     private final UserRepository userRepository;
     private final PropertyRepository propertyRepository;
     private final ChatNotificationPubSubService chatNotificationPubSubService;
     private final S3Uploader s3Uploader;
+    private final ChatWriteBehindService chatWriteBehindService;
 
     // 생성자에서 @Lazy 적용하여 순환 참조 해결
     public ChatService(
             ChatRoomRepository chatRoomRepository,
             ChatMessageRepository chatMessageRepository,
             ChatParticipantRepository chatParticipantRepository,
-            MessageReadStatusRepository messageReadStatusRepository,
             UserRepository userRepository,
             PropertyRepository propertyRepository,
-            @Lazy ChatNotificationPubSubService chatNotificationPubSubService, S3Uploader s3Uploader
+            @Lazy ChatNotificationPubSubService chatNotificationPubSubService, S3Uploader s3Uploader,
+            ChatWriteBehindService chatWriteBehindService
     ) {
         this.chatRoomRepository = chatRoomRepository;
         this.chatMessageRepository = chatMessageRepository;
         this.chatParticipantRepository = chatParticipantRepository;
-        this.messageReadStatusRepository = messageReadStatusRepository;
         this.userRepository = userRepository;
         this.propertyRepository = propertyRepository;
         this.chatNotificationPubSubService = chatNotificationPubSubService;
         this.s3Uploader = s3Uploader;
+        this.chatWriteBehindService = chatWriteBehindService;
     }
 
     /**
@@ -166,117 +175,149 @@ public class ChatService {
     }
 
     /**
-     * 내 채팅방 리스트 조회
+     * 내 채팅방 리스트 조회 (무한 스크롤)
      * --------------------------------------------------------------------
-     * 로그인한 사용자가 참여 중인 모든 1:1 채팅방 목록을 조회한다.
+     * 로그인한 사용자가 참여 중인 1:1 채팅방 목록을 마지막 활동 시각 내림차순으로 조회한다.
+     * 방 요약/상대방/안 읽은 수를 쿼리 1회로 가져온다. (ChatParticipantRepository.findInbox)
      * 반환 정보 구성:
      * - opponent : 상대방 사용자 정보
-     * - lastMessage : 최근 메시지 내용/시각 + 내가 보낸 메시지인지 여부
+     * - lastMessage : 최근 메시지 내용/시각
      * - unreadCount : 내가 읽지 않은 메시지 개수
+     * - lastActivityAt : 다음 페이지 커서 (마지막 항목의 lastActivityAt + roomSeq)
      * 화면 예시:
      *   [프로필 이미지]  상대방 이름
      *   마지막 메시지 내용 ...       (읽지 않은 메시지 뱃지)
      *   마지막 메시지 보낸 시간
      */
-    public List<MyChatListResponseDto> getMyChatRooms(Integer userSeq) {
+    public Slice<MyChatListResponseDto> getMyChatRooms(Integer userSeq, LocalDateTime cursorAt,
+                                                        Integer cursorRoomSeq, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Integer roomCursor = cursorAt == null ? 0
+                : (cursorRoomSeq != null ? cursorRoomSeq : Integer.MAX_VALUE);
+
+        return chatParticipantRepository
+                .findInbox(userSeq, cursorAt, roomCursor, PageRequest.of(0, pageSize))
+                .map(this::toMyChatListDto);
+    }
 
-        // 실제 User 엔티티 조회
-        User me = userRepository.findById(userSeq)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    /**
+     * 내 채팅방 하나 (채팅 목록 항목과 같은 형태)
+     */
+    public MyChatListResponseDto getMyChatRoom(Integer userSeq, Integer roomSeq) {
+        return chatParticipantRepository.findInboxRoom(userSeq, roomSeq)
+                .map(this::toMyChatListDto)
+                .orElseThrow(() -> {
+                    if (!chatRoomRepository.existsById(roomSeq)) {
+                        return new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+                    }
+                    return new CustomException(ErrorCode.UNAUTHORIZED_CHAT_ACCESS);
+                });
+    }
 
-        // 응답 리스트
-        List<MyChatListResponseDto> result = new ArrayList<>();
-
-        // 3) 내가 참여 중인 모든 채팅방 목록 조회
-        List<ChatParticipant> myParticipations = chatParticipantRepository.findAllByUser(me);
-
-        for (ChatParticipant cp : myParticipations) {
-
-            ChatRoom room = cp.getChatRoom();
-
-            /*
-             * 4) 채팅방 참여자 중 '나를 제외한 사용자' = 상대방
-             *    (1:1 채팅 가정이므로 항상 2명 존재)
-             */
-            User partner = room.getParticipants().stream()
-                    .map(ChatParticipant::getUser)
-                    .filter(u -> !u.getUserSeq().equals(me.getUserSeq())) // 나 제외
-                    .findFirst()
-                    .orElse(null); // 안전 처리 (이론상 null이면 안 됨)
-
-            /*
-             * 5) 최근 메시지 조회
-             *    - 최하단에 삽입되는 구조이므로 "sentAt DESC LIMIT 1"
-             */
-            ChatMessage lastMessage = chatMessageRepository
-                    .findTopByChatRoomOrderBySentAtDesc(room)
-                    .orElse(null);
-
-            /*
-             * 6) 읽지 않은 메시지 개수 조회
-             *    - "나 기준"으로 읽음 여부가 저장됨
-             */
-            long unread = messageReadStatusRepository.countByChatRoomAndUserAndIsReadFalse(room, me);
-
-            // partner 프로필 presigned URL 적용
-            String partnerProfileUrl = (partner != null && partner.getProfileImg() != null)
-                    ? s3Uploader.presignedGetUrl(partner.getProfileImg(), Duration.ofHours(12))
-                    : null;
+    private MyChatListResponseDto toMyChatListDto(ChatInboxProjection row) {
+        // partner 프로필 presigned URL 적용 (서명만 하므로 네트워크 호출 없음)
+        String partnerProfileUrl = row.getPartnerProfileImg() != null
+                ? s3Uploader.presignedGetUrl(row.getPartnerProfileImg(), Duration.ofHours(12))
+                : null;
 
-            /*
-             * 7) DTO 변환
-             *    ← 여기서 핵심은 "opponent" 와 "lastMessage" 를
-             *       각각 하위 객체로 구조화하여 FE가 처리하기 쉽게 하는 것.
-             */
-            result.add(
-                    MyChatListResponseDto.builder()
-                            .roomSeq(room.getId())
-                            .partner(partner != null
-                                    ? MyChatListResponseDto.PartnerDto.builder()
-                                    .userSeq(partner.getUserSeq())
-                                    .name(partner.getName())
-                                    .nickname(partner.getNickname())
-                                    .profileImg(partnerProfileUrl)
-                                    .build()
-                                    : null
-                            )
-                            .lastMessage(lastMessage != null
-                                    ? MyChatListResponseDto.LastMessageDto.builder()
-                                    .content(lastMessage.getContent())
-                                    .sentAt(lastMessage.getSentAt())
-                                    .build()
-                                    : null
-                            )
-                            .unreadCount((int) unread)
-                            .build()
-            );
-        }
+        return MyChatListResponseDto.builder()
+                .roomSeq(row.getRoomSeq())
+                .partner(row.getPartnerSeq() != null
+                        ? MyChatListResponseDto.PartnerDto.builder()
+                        .userSeq(row.getPartnerSeq())
+                        .name(row.getPartnerName())
+                        .nickname(row.getPartnerNickname())
+                        .profileImg(partnerProfileUrl)
+                        .build()
+                        : null
+                )
+                .lastMessage(row.getLastMessageAt() != null
+                        ? MyChatListResponseDto.LastMessageDto.builder()
+                        .content(row.getLastMessageContent())
+                        .sentAt(row.getLastMessageAt())
+                        .build()
+                        : null
+                )
+                .unreadCount(row.getUnreadCount() != null ? row.getUnreadCount().intValue() : 0)
+                .lastActivityAt(row.getLastActivityAt())
+                .build();
+    }
 
-        return result;
+    /**
+     * 특정 채팅방 메시지 기록 조회 (과거 방향 커서)
+     * beforeMessageSeq 보다 작은 ID 의 메시지를 최신순으로 size 건 가져와 시간순으로 반환한다.
+     * @param beforeMessageSeq 이미 받은 가장 오래된 메시지 ID (첫 페이지는 null)
+     */
+    public Slice<ChatMessageResponseDto> getChatHistory(Integer roomSeq, Integer userSeq, Integer beforeMessageSeq, int size) {
+        checkParticipant(roomSeq, userSeq);
+
+        Slice<ChatMessage> page = chatMessageRepository.findPageBefore(
+                roomSeq,
+                beforeMessageSeq != null ? beforeMessageSeq : Integer.MAX_VALUE,
+                PageRequest.of(0, messagePageSize(size)));
+
+        // 최신순으로 잘라온 페이지를 화면 표시 순서(시간순)로 뒤집음
+        List<ChatMessage> messages = new ArrayList<>(page.getContent());
+        Collections.reverse(messages);
+        return new SliceImpl<>(toMessageDtos(roomSeq, messages), page.getPageable(), page.hasNext());
     }
 
     /**
-     * 특정 채팅방 메시지 목록 조회
+     * 놓친 메시지 조회 (재연결 시)
+     * afterMessageSeq 보다 큰 ID 의 메시지를 시간순으로 size 건 반환한다. hasNext 면 마지막 ID 로 다시 호출한다.
+     * write-behind 모드에서는 아직 적재되지 않은 스트림 메시지도 합친다.
+     * 적재가 끝나야 스트림에서 지우므로 스트림을 먼저 읽으면, 그 사이 적재된 메시지도 DB 쪽에서 빠지지 않는다.
+     * @param afterMessageSeq 클라이언트가 마지막으로 받은 메시지 ID
      */
-    public List<ChatMessageResponseDto> getChatHistory(Integer roomSeq) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomSeq)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    public Slice<ChatMessageResponseDto> getMessagesAfter(Integer roomSeq, Integer userSeq, Integer afterMessageSeq, int size) {
+        checkParticipant(roomSeq, userSeq);
 
-        List<ChatMessageResponseDto> result = new ArrayList<>();
+        int after = afterMessageSeq != null ? afterMessageSeq : 0;
+        int pageSize = messagePageSize(size);
+        List<MessageRow> unflushed = chatWriteBehindService.findUnflushed(roomSeq, after);
 
-        for (ChatMessage m : chatMessageRepository.findByChatRoomOrderBySentAtAsc(chatRoom)) {
+        Slice<ChatMessage> page = chatMessageRepository.findPageAfter(roomSeq, after, PageRequest.of(0, pageSize));
+        List<ChatMessageResponseDto> persisted = toMessageDtos(roomSeq, page.getContent());
+        if (unflushed.isEmpty()) {
+            return new SliceImpl<>(persisted, page.getPageable(), page.hasNext());
+        }
 
-            /* ✨ 메시지 발신자 프로필 presigned URL */
-            String senderProfileUrl = m.getSender().getProfileImg() != null
-                    ? s3Uploader.presignedGetUrl(m.getSender().getProfileImg(), Duration.ofHours(12))
-                    : null;
+        // DB 에 다음 페이지가 있으면 이번 페이지 마지막 ID 까지만 합쳐야 중간이 비지 않는다.
+        int limit = page.hasNext() ? persisted.get(persisted.size() - 1).getMessageSeq() : Integer.MAX_VALUE;
+        TreeMap<Integer, ChatMessageResponseDto> merged = new TreeMap<>();
+        persisted.forEach(dto -> merged.put(dto.getMessageSeq(), dto));
+        for (ChatMessageResponseDto dto : toMessageDtos(unflushed)) {
+            if (dto.getMessageSeq() <= limit) {
+                merged.putIfAbsent(dto.getMessageSeq(), dto);
+            }
+        }
 
-            ChatMessageResponseDto.SenderDto senderDto = ChatMessageResponseDto.SenderDto.builder()
-                    .userSeq(m.getSender().getUserSeq())
-                    .name(m.getSender().getName())
-                    .nickname(m.getSender().getNickname())
-                    .profileImg(senderProfileUrl)
-                    .build();
+        List<ChatMessageResponseDto> content = merged.values().stream().limit(pageSize).toList();
+        return new SliceImpl<>(content, page.getPageable(), page.hasNext() || merged.size() > pageSize);
+    }
+
+    // 메시지 조회는 채팅방 참여자만
+    private void checkParticipant(Integer roomSeq, Integer userSeq) {
+        if (chatParticipantRepository.existsByChatRoomIdAndUserUserSeq(roomSeq, userSeq)) return;
+
+        if (!chatRoomRepository.existsById(roomSeq)) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
+        throw new CustomException(ErrorCode.UNAUTHORIZED_CHAT_ACCESS);
+    }
+
+    private static int messagePageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_MESSAGE_PAGE_SIZE);
+    }
+
+    // 발신자 프로필 presigned URL 은 발신자별로 한 번만 생성
+    private List<ChatMessageResponseDto> toMessageDtos(Integer roomSeq, List<ChatMessage> messages) {
+        Map<Integer, ChatMessageResponseDto.SenderDto> senders = new HashMap<>();
+        List<ChatMessageResponseDto> result = new ArrayList<>(messages.size());
+
+        for (ChatMessage m : messages) {
+            User sender = m.getSender();
+            ChatMessageResponseDto.SenderDto senderDto = senders.computeIfAbsent(sender.getUserSeq(), seq -> toSenderDto(sender));
 
             result.add(ChatMessageResponseDto.builder()
                     .messageSeq(m.getId())
@@ -290,6 +331,39 @@ public class ChatService {
         return result;
     }
 
+    // 스트림 메시지는 발신자 ID 만 있으므로 발신자를 한 번에 조회
+    private List<ChatMessageResponseDto> toMessageDtos(List<MessageRow> rows) {
+        Set<Integer> senderSeqs = new HashSet<>();
+        rows.forEach(row -> senderSeqs.add(row.senderSeq()));
+
+        Map<Integer, ChatMessageResponseDto.SenderDto> senders = new HashMap<>();
+        userRepository.findAllById(senderSeqs).forEach(user -> senders.put(user.getUserSeq(), toSenderDto(user)));
+
+        List<ChatMessageResponseDto> result = new ArrayList<>(rows.size());
+        for (MessageRow row : rows) {
+            result.add(ChatMessageResponseDto.builder()
+                    .messageSeq(row.messageSeq())
+                    .roomSeq(row.roomSeq())
+                    .sender(senders.getOrDefault(row.senderSeq(),
+                            ChatMessageResponseDto.SenderDto.builder().userSeq(row.senderSeq()).build()))
+                    .content(row.content())
+                    .sentAt(row.sentAt())
+                    .build());
+        }
+        return result;
+    }
+
+    private ChatMessageResponseDto.SenderDto toSenderDto(User sender) {
+        return ChatMessageResponseDto.SenderDto.builder()
+                .userSeq(sender.getUserSeq())
+                .name(sender.getName())
+                .nickname(sender.getNickname())
+                .profileImg(sender.getProfileImg() != null
+                        ? s3Uploader.presignedGetUrl(sender.getProfileImg(), Duration.ofHours(12))
+                        : null)
+                .build();
+    }
+
     /**
      * STOMP 구독 시 채팅방 참여자 검증
      * WebSocket 연결 시 해당 유저가 해당 채팅방의 참여자인지 확인한다.
@@ -320,46 +394,39 @@ public class ChatService {
     }
 
     /**
-     * 메시지 저장 + 읽음 상태 생성 + 응답 DTO 반환
+     * 메시지 저장 + 응답 DTO 반환
+     * 읽음 여부는 참여자별 워터마크(ChatParticipant.lastReadMessageSeq)로 판단하므로 메시지마다 따로 저장하지 않는다.
      * @return 저장된 메시지의 응답 DTO
      */
-    public ChatMessageResponseDto saveMessage(Integer roomSeq, ChatMessageRequestDto requestDto, User sender) {
+    public ChatMessageResponseDto saveMessage(Integer roomSeq, ChatMessageRequestDto requestDto, StompPrincipal sender) {
 
         // 채팅방 조회 (없으면 예외)
         ChatRoom chatRoom = chatRoomRepository.findById(roomSeq)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         // 메시지 엔티티 생성 및 저장
+        // 발신자는 세션 사용자이므로 조회 없이 참조만 사용
         ChatMessage message = ChatMessage.builder()
                 .chatRoom(chatRoom)
-                .sender(sender)
+                .sender(userRepository.getReferenceById(sender.userSeq()))
                 .content(requestDto.getContent())
                 .sentAt(LocalDateTime.now(KoreaClock.getClock()))
                 .build();
         chatMessageRepository.save(message);
 
-        // 참여자별 읽음 상태 생성
-        List<ChatParticipant> participants = chatParticipantRepository.findAllByChatRoom(chatRoom);
-        for (ChatParticipant participant : participants) {
-            messageReadStatusRepository.save(MessageReadStatus.builder()
-                    .chatMessage(message)
-                    .chatRoom(chatRoom)
-                    .user(participant.getUser())
-                    // 보낸 사람은 이미 읽은 상태, 나머지는 미확인 상태
-                    .isRead(participant.getUser().equals(sender))
-                    .build());
-        }
+        // 채팅 목록용 방 요약 갱신
+        chatRoomRepository.updateLastMessage(chatRoom.getId(), message.getId(), message.getContent(), message.getSentAt());
 
         /* ✨ 발신자 프로필 presigned URL */
-        String senderProfileUrl = sender.getProfileImg() != null
-                ? s3Uploader.presignedGetUrl(sender.getProfileImg(), Duration.ofHours(12))
+        String senderProfileUrl = sender.profileImg() != null
+                ? s3Uploader.presignedGetUrl(sender.profileImg(), Duration.ofHours(12))
                 : null;
 
         // 응답 DTO 로 변환
         ChatMessageResponseDto.SenderDto senderDto = ChatMessageResponseDto.SenderDto.builder()
-                .userSeq(sender.getUserSeq())
-                .name(sender.getName())
-                .nickname(sender.getNickname())
+                .userSeq(sender.userSeq())
+                .name(sender.userName())
+                .nickname(sender.nickname())
                 .profileImg(senderProfileUrl)
                 .build();
 
@@ -390,20 +457,42 @@ public class ChatService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * 특정 사용자 기준 채팅방의 안 읽은 메시지 수
+     * write-behind 모드에서는 아직 적재되지 않은 스트림 메시지(방금 보낸 메시지 포함)도 센다.
+     * 스트림을 먼저 읽고, 적재됐지만 아직 스트림에서 지워지지 않은 메시지는 DB 쪽에서 빼서 한 번만 센다.
+     */
+    public long countUnread(Integer roomSeq, Integer userSeq) {
+        ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserUserSeq(roomSeq, userSeq)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND));
+        int lastRead = lastRead(participant);
+
+        List<Integer> unflushed = chatWriteBehindService.findUnflushed(roomSeq, lastRead).stream()
+                .filter(row -> !userSeq.equals(row.senderSeq()))
+                .map(MessageRow::messageSeq)
+                .toList();
+        if (unflushed.isEmpty()) {
+            return chatMessageRepository.countUnread(roomSeq, userSeq, lastRead);
+        }
+        return unflushed.size() + chatMessageRepository.countUnreadExcluding(roomSeq, userSeq, lastRead, unflushed);
+    }
+
     /**
      * 메시지 읽음 처리
+     * 내 읽음 워터마크를 방의 마지막 메시지로 올린다. (UPDATE 1회)
      */
     public void readMessages(Integer roomSeq, Integer userSeq) {
+        if (chatParticipantRepository.markAllRead(roomSeq, userSeq) > 0) return;
 
-        User reader = userRepository.findById(userSeq)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        ChatRoom room = chatRoomRepository.findById(roomSeq)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-
-        for (MessageReadStatus status : messageReadStatusRepository.findByChatRoomAndUser(room, reader)) {
-            if (!status.isRead()) status.markRead();
+        // 갱신된 행이 없으면 원인 구분
+        if (!chatRoomRepository.existsById(roomSeq)) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
         }
+        throw new CustomException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND);
+    }
+
+    private static int lastRead(ChatParticipant participant) {
+        return participant.getLastReadMessageSeq() != null ? participant.getLastReadMessageSeq() : 0;
     }
 
     /**
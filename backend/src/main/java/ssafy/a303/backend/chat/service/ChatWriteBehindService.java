@@ -0,0 +1,249 @@
+package ssafy.a303.backend.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.a303.backend.chat.dto.request.ChatMessageRequestDto;
+import ssafy.a303.backend.chat.dto.response.ChatMessageResponseDto;
+import ssafy.a303.backend.chat.repository.ChatMessageJdbcRepository;
+import ssafy.a303.backend.chat.repository.ChatMessageJdbcRepository.MessageRow;
+import ssafy.a303.backend.chat.repository.ChatMessageStreamRepository;
+import ssafy.a303.backend.chat.repository.ChatRoomRepository;
+import ssafy.a303.backend.common.config.StompPrincipal;
+import ssafy.a303.backend.common.exception.CustomException;
+import ssafy.a303.backend.common.helper.KoreaClock;
+import ssafy.a303.backend.common.response.ErrorCode;
+import ssafy.a303.backend.property.util.S3Uploader;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1:1 채팅 write-behind (chat.write-behind.enabled)
+ * - 전송: 메시지를 방별 Redis Stream 에 추가하면서 message_seq 를 발급받고 바로 발행한다. (DB 접근 없음)
+ * - 적재: flush-interval-ms 마다 스트림을 consumer group 으로 읽어 chat_message 에 JDBC batch 로 넣고,
+ *   채팅방 마지막 메시지 요약을 갱신한 뒤 ACK 한다.
+ * - 복구: ACK 되지 않은 채 claim-idle-seconds 가 지난 메시지(적재 중 종료된 노드 등)를 가져와 다시 적재한다.
+ *   insert 는 message_seq 충돌 시 무시하므로 커밋 후 ACK 전에 죽어도 중복되지 않는다.
+ * - ID 카운터가 유실되면 스트림과 DB 의 최대 message_seq 위로 올린 뒤 발급한다. (기동 시에도 한 번 맞춘다)
+ * - 전송 직후 DB 조회(기록/채팅 목록)에는 적재 주기만큼 늦게 반영된다. 놓친 메시지 조회와 알림의 안 읽은 수는 스트림도 함께 읽는다. (findUnflushed)
+ */
+@Slf4j
+@Service
+public class ChatWriteBehindService {
+
+    // chat_message.content 길이 (배치에 넣기 전에 걸러서 한 건이 적재를 막지 않도록)
+    private static final int MAX_CONTENT_LENGTH = 500;
+
+    private final ChatMessageStreamRepository chatMessageStreamRepository;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final S3Uploader s3Uploader;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration claimIdle;
+    private final String consumer;
+
+    public ChatWriteBehindService(ChatMessageStreamRepository chatMessageStreamRepository,
+                                  ChatMessageJdbcRepository chatMessageJdbcRepository,
+                                  ChatRoomRepository chatRoomRepository,
+                                  S3Uploader s3Uploader,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${chat.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${chat.write-behind.claim-idle-seconds:30}") long claimIdleSeconds) {
+        this.chatMessageStreamRepository = chatMessageStreamRepository;
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.s3Uploader = s3Uploader;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.claimIdle = Duration.ofSeconds(claimIdleSeconds);
+        this.consumer = System.getenv().getOrDefault("HOSTNAME", "writer-" + UUID.randomUUID());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ID 카운터를 이미 발급된 최대 message_seq 이상으로 맞춘다.
+     * 스트림을 먼저 읽어야 그 사이 적재되어 스트림에서 지워진 메시지도 DB 쪽에서 잡힌다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSequence() {
+        if (!enabled) return;
+        long streamMax = chatMessageStreamRepository.findMaxStreamSeq();
+        long dbMax = chatMessageJdbcRepository.findMaxMessageSeq();
+        chatMessageStreamRepository.raiseSequence(Math.max(streamMax, dbMax));
+    }
+
+    /**
+     * 메시지를 스트림에 추가하고 발행할 응답 DTO 를 만든다. (채팅방 존재 여부는 적재 시 확인)
+     */
+    public ChatMessageResponseDto append(Integer roomSeq, ChatMessageRequestDto requestDto, StompPrincipal sender) {
+        String content = requestDto.getContent();
+        if (content == null || content.isBlank() || content.length() > MAX_CONTENT_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_CHAT_REQUEST);
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now(KoreaClock.getClock());
+        OptionalInt issued = chatMessageStreamRepository.append(roomSeq, sender.userSeq(), content, sentAt);
+        if (issued.isEmpty()) {
+            log.warn("[ChatWriteBehind] 메시지 ID 카운터 유실 - 스트림/DB 최대값으로 복구");
+            restoreSequence();
+            issued = chatMessageStreamRepository.append(roomSeq, sender.userSeq(), content, sentAt);
+        }
+        int messageSeq = issued.orElseThrow(() -> new IllegalStateException("채팅 메시지 ID 발급 실패"));
+
+        return ChatMessageResponseDto.builder()
+                .messageSeq(messageSeq)
+                .roomSeq(roomSeq)
+                .sender(ChatMessageResponseDto.SenderDto.builder()
+                        .userSeq(sender.userSeq())
+                        .name(sender.userName())
+                        .nickname(sender.nickname())
+                        .profileImg(sender.profileImg() != null
+                                ? s3Uploader.presignedGetUrl(sender.profileImg(), Duration.ofHours(12))
+                                : null)
+                        .build())
+                .content(content)
+                .sentAt(sentAt)
+                .build();
+    }
+
+    /**
+     * 방 스트림에 남아 아직 적재되지 않은 메시지 중 afterMessageSeq 보다 큰 것 (message_seq 순)
+     * ID 는 발급 순서와 적재(커밋) 순서가 다를 수 있어, DB 만 읽으면 나중에 커밋될 작은 ID 를 건너뛸 수 있다.
+     */
+    public List<MessageRow> findUnflushed(int roomSeq, int afterMessageSeq) {
+        if (!enabled) return List.of();
+
+        List<MessageRow> rows = new ArrayList<>();
+        for (MapRecord<String, String, String> record : chatMessageStreamRepository.findUnflushed(roomSeq)) {
+            try {
+                MessageRow row = toRow(record);
+                if (row.messageSeq() > afterMessageSeq) {
+                    rows.add(row);
+                }
+            } catch (RuntimeException e) {
+                // 잘못된 메시지는 적재 시 버려지므로 조회에서도 제외
+            }
+        }
+        rows.sort(Comparator.comparingInt(MessageRow::messageSeq));
+        return rows;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.write-behind.flush-interval-ms:100}")
+    public void flush() {
+        if (!enabled) return;
+        try {
+            List<Integer> rooms = chatMessageStreamRepository.dirtyRooms();
+            if (rooms.isEmpty()) return;
+
+            List<MapRecord<String, String, String>> records =
+                    chatMessageStreamRepository.readNew(rooms, consumer, batchSize);
+            if (!records.isEmpty()) {
+                persist(records);
+            }
+            chatMessageStreamRepository.release(rooms);
+        } catch (Exception e) {
+            log.warn("[ChatWriteBehind] 적재 실패 (pending 으로 남아 재처리): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.write-behind.recover-interval-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void recoverPending() {
+        if (!enabled) return;
+        for (Integer roomSeq : chatMessageStreamRepository.dirtyRooms()) {
+            try {
+                List<MapRecord<String, String, String>> claimed =
+                        chatMessageStreamRepository.claimStale(roomSeq, consumer, claimIdle, batchSize);
+                if (claimed.isEmpty()) continue;
+
+                log.info("[ChatWriteBehind] pending 메시지 복구 - roomSeq={}, count={}", roomSeq, claimed.size());
+                persist(claimed);
+                chatMessageStreamRepository.release(List.of(roomSeq));
+            } catch (Exception e) {
+                log.warn("[ChatWriteBehind] pending 복구 실패 - roomSeq={}: {}", roomSeq, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 적재 후 ACK
+     * 제약 조건 위반이 있으면 한 건씩 다시 넣어 문제 메시지만 버린다. 그 외 오류(DB 장애 등)는 ACK 하지 않고 복구에 맡긴다.
+     */
+    private void persist(List<MapRecord<String, String, String>> records) {
+        List<MapRecord<String, String, String>> valid = new ArrayList<>(records.size());
+        List<MapRecord<String, String, String>> done = new ArrayList<>(records.size());
+        List<MessageRow> rows = new ArrayList<>(records.size());
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                rows.add(toRow(record));
+                valid.add(record);
+            } catch (RuntimeException e) {
+                log.error("[ChatWriteBehind] 잘못된 스트림 메시지 버림 - id={}, value={}", record.getId(), record.getValue());
+                done.add(record);
+            }
+        }
+
+        try {
+            store(rows);
+            done.addAll(valid);
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    store(List.of(rows.get(i)));
+                } catch (DataIntegrityViolationException rowError) {
+                    log.error("[ChatWriteBehind] 메시지 적재 불가로 버림 - row={}: {}", rows.get(i), rowError.getMessage());
+                } catch (RuntimeException other) {
+                    break;
+                }
+                done.add(valid.get(i));
+            }
+        } finally {
+            if (!done.isEmpty()) {
+                chatMessageStreamRepository.acknowledge(done);
+            }
+        }
+    }
+
+    private void store(List<MessageRow> rows) {
+        if (rows.isEmpty()) return;
+
+        // 방마다 가장 최근 메시지로 채팅 목록 요약 갱신
+        Map<Integer, MessageRow> lastByRoom = new HashMap<>();
+        for (MessageRow row : rows) {
+            lastByRoom.merge(row.roomSeq(), row, (a, b) -> a.messageSeq() > b.messageSeq() ? a : b);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            chatMessageJdbcRepository.batchInsert(rows);
+            lastByRoom.values().forEach(row -> chatRoomRepository.updateLastMessage(
+                    row.roomSeq(), row.messageSeq(), row.content(), row.sentAt()));
+            chatMessageJdbcRepository.syncSequence();
+        });
+    }
+
+    private static MessageRow toRow(MapRecord<String, String, String> record) {
+        Map<String, String> value = record.getValue();
+        return new MessageRow(
+                Integer.parseInt(value.get("seq")),
+                ChatMessageStreamRepository.roomOf(record),
+                Integer.parseInt(value.get("sender")),
+                Objects.requireNonNull(value.get("content")),
+                LocalDateTime.parse(value.get("sentAt"))
+        );
+    }
+}
@@ -13,16 +13,25 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import ssafy.a303.backend.auction.repository.AuctionInProgressCache;
+import ssafy.a303.backend.auction.repository.BidRedisRouter;
+import ssafy.a303.backend.auction.service.BidLeaderboardPubSubService;
 import ssafy.a303.backend.chat.service.ChatRedisPubSubService;
 import ssafy.a303.backend.chat.service.ChatNotificationPubSubService;
 import ssafy.a303.backend.livestream.service.LiveRedisPubSubService;
 import ssafy.a303.backend.livestream.service.LiveStartNotificationPubSubService;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * ======================================================================
  * Redis를 다음과 같이 분리하여 사용한다.
@@ -251,4 +260,110 @@ public class RedisConfig {
         config.setDatabase(4);
         return new LettuceConnectionFactory(config);
     }
+
+    /*
+     * 입찰 상태(랭킹/입찰 여부/진행 중/정산 커서/요청 제한) 샤드
+     * - bid.redis.shards 가 비어 있으면 위 DB4 하나만 사용 (기존과 동일)
+     * - "host:port/db" 를 쉼표로 나열하면 auctionSeq 기준 consistent hashing 으로 경매를 나눈다.
+     *   (예: redis-bid-1:6379/0,redis-bid-2:6379/0) 샤드 이름(주소)이 해시 기준이므로 순서를 바꿔도 배치는 같다.
+     * - pub/sub 채널(순위표, 진행 중 경매 캐시 갱신)은 샤드와 무관하게 DB4 를 사용한다.
+     */
+    @Bean
+    public BidRedisRouter bidRedisRouter(
+            @Qualifier("bidRedisTemplate") StringRedisTemplate bidRedisTemplate,
+            @Value("${bid.redis.shards:}") String shards
+    ) {
+        Map<String, StringRedisTemplate> templates = new LinkedHashMap<>();
+        List<RedisConnectionFactory> owned = new ArrayList<>();
+        if (shards.isBlank()) {
+            templates.put(host + ":" + port + "/4", bidRedisTemplate);
+            return new BidRedisRouter(templates, owned);
+        }
+
+        // 연결을 만들기 전에 전체 항목을 먼저 검증한다 (중간 항목이 잘못돼 앞서 만든 연결이 남지 않도록)
+        Map<String, RedisStandaloneConfiguration> configs = new LinkedHashMap<>();
+        for (String shard : shards.split(",")) {
+            String name = shard.trim();
+            if (name.isEmpty()) continue;
+            if (configs.put(name, parseShard(name)) != null) {
+                throw new IllegalArgumentException("bid.redis.shards 에 같은 샤드가 중복되었습니다: '" + name + "'");
+            }
+        }
+
+        configs.forEach((name, config) -> {
+            LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+            factory.afterPropertiesSet();
+
+            owned.add(factory);
+            templates.put(name, new StringRedisTemplate(factory));
+        });
+        return new BidRedisRouter(templates, owned);
+    }
+
+    /* bid.redis.shards 항목 하나 ("host:port" 또는 "host:port/db") */
+    private static RedisStandaloneConfiguration parseShard(String name) {
+        int slash = name.indexOf('/');
+        String address = slash < 0 ? name : name.substring(0, slash);
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0 || colon == address.length() - 1) {
+            throw invalidShard(name, "포트가 없습니다");
+        }
+
+        int port;
+        int database;
+        try {
+            port = Integer.parseInt(address.substring(colon + 1));
+            database = slash < 0 ? 0 : Integer.parseInt(name.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            throw invalidShard(name, "포트/DB 번호가 숫자가 아닙니다");
+        }
+        if (port < 1 || port > 65535) {
+            throw invalidShard(name, "포트 범위(1~65535)를 벗어났습니다");
+        }
+        if (database < 0) {
+            throw invalidShard(name, "DB 번호는 0 이상이어야 합니다");
+        }
+
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(address.substring(0, colon), port);
+        config.setDatabase(database);
+        return config;
+    }
+
+    private static IllegalArgumentException invalidShard(String name, String reason) {
+        return new IllegalArgumentException(
+                "bid.redis.shards 항목 형식이 올바르지 않습니다 (host:port[/db]) - '" + name + "': " + reason);
+    }
+
+    // auction:leaderboard:* 채널 수신 → STOMP 로 경매 순위표 갱신
+    @Bean
+    @Qualifier("bidLeaderboardListenerContainer")
+    public RedisMessageListenerContainer bidLeaderboardListenerContainer(
+            @Qualifier("bidRedisFactory") RedisConnectionFactory factory,
+            @Qualifier("bidLeaderboardListenerAdapter") MessageListenerAdapter adapter) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(adapter, new PatternTopic(BidLeaderboardPubSubService.CHANNEL_PREFIX + "*"));
+        return container;
+    }
+
+    // auction:in-progress 채널 수신 → 노드 로컬 진행 중 경매 캐시 갱신
+    @Bean
+    @Qualifier("auctionInProgressListenerContainer")
+    public RedisMessageListenerContainer auctionInProgressListenerContainer(
+            @Qualifier("bidRedisFactory") RedisConnectionFactory factory,
+            AuctionInProgressCache cache) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(cache, new ChannelTopic(AuctionInProgressCache.CHANNEL));
+        return container;
+    }
+
+    // 경매 순위표 메시지를 → BidLeaderboardPubSubService.onMessage() 로 전달하는 어댑터
+    @Bean
+    @Qualifier("bidLeaderboardListenerAdapter")
+    public MessageListenerAdapter bidLeaderboardListenerAdapter(BidLeaderboardPubSubService service) {
+        return new MessageListenerAdapter(service, "onMessage");
+    }
 }
@@ -12,16 +12,15 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 import ssafy.a303.backend.chat.service.ChatService;
 import ssafy.a303.backend.common.exception.CustomException;
+import ssafy.a303.backend.user.entity.User;
+import ssafy.a303.backend.user.repository.UserRepository;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Collections;
 import ssafy.a303.backend.common.response.ErrorCode;
 
 /**
@@ -48,9 +47,13 @@ public class StompHandler implements ChannelInterceptor {
     /** 라이브 방송 입장/퇴장 등록 처리 담당 */
     private final StompEventListener stompEventListener;
 
-    public StompHandler(ChatService chatService, StompEventListener stompEventListener) {
+    /** CONNECT 시 세션 사용자(StompPrincipal) 조회 */
+    private final UserRepository userRepository;
+
+    public StompHandler(ChatService chatService, StompEventListener stompEventListener, UserRepository userRepository) {
         this.chatService = chatService;
         this.stompEventListener = stompEventListener;
+        this.userRepository = userRepository;
     }
     
     @PostConstruct
@@ -71,7 +74,9 @@ public class StompHandler implements ChannelInterceptor {
     public Message<?> preSend(@NotNull Message<?> message, @NotNull MessageChannel channel) {
 
         // STOMP 헤더 정보를 파싱하기 위한 헬퍼 객체
-        final StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        // CONNECT 에서 setUser 한 사용자가 세션에 남으려면 복사본(wrap)이 아닌 원본 메시지의 accessor 를 수정해야 한다.
+        final StompHeaderAccessor mutableAccessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        final StompHeaderAccessor accessor = mutableAccessor != null ? mutableAccessor : StompHeaderAccessor.wrap(message);
 
         // 1) CONNECT: 웹소켓 연결 시도 시 → JWT 검증
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
@@ -103,6 +108,7 @@ public class StompHandler implements ChannelInterceptor {
 
     /**
      * CONNECT 요청에서 Authorization 헤더를 확인하고 JWT 검증 수행
+     * 검증이 끝나면 사용자를 한 번 조회해 StompPrincipal 로 세션에 묶는다. (SEND 마다 재사용)
      */
     private void validateJwt(StompHeaderAccessor accessor) {
         // Authorization 헤더 추출 (STOMP는 HTTP가 아니므로 native header에서 가져온다)
@@ -120,6 +126,8 @@ public class StompHandler implements ChannelInterceptor {
         String token = bearerToken.substring(7);
         log.info("[STOMP][CONNECT] JWT 토큰 추출 완료 (길이: {})", token.length());
 
+        final Integer userSeq;
+        final String role;
         try {
             // 토큰 검증 수행 (서명, 만료 등) - Key 객체 사용
             Claims claims = Jwts.parserBuilder()
@@ -128,29 +136,23 @@ public class StompHandler implements ChannelInterceptor {
                     .parseClaimsJws(token)
                     .getBody();
 
-            String userSeq = claims.getSubject();
-            String role = claims.get("role", String.class);
+            userSeq = Integer.valueOf(claims.getSubject());
+            role = claims.get("role", String.class);
 
             log.info("[CONNECT] JWT 검증 완료 - 사용자: {}, 역할: {}", userSeq, role);
-
-            // SecurityContext에 인증 정보 설정 (StompController에서 사용)
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userSeq,  // principal
-                            null,     // credentials
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-                    );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            // STOMP 세션에도 저장 (선택사항)
-            accessor.setUser(authentication);
-            
-            log.info("[CONNECT] SecurityContext 설정 완료 - userSeq: {}", userSeq);
         } catch (Exception e) {
             // 유효하지 않은 토큰 → 연결 차단
             log.error("[STOMP][CONNECT] JWT 파싱 실패: {} - {}", e.getClass().getSimpleName(), e.getMessage());
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
+
+        User user = userRepository.findById(userSeq)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // STOMP 세션에 사용자 저장 → 이후 @MessageMapping 메서드의 Principal 인자로 전달됨
+        accessor.setUser(StompPrincipal.of(user, role));
+
+        log.info("[CONNECT] 세션 사용자 설정 완료 - userSeq: {}", userSeq);
     }
 
     /**
@@ -160,6 +162,7 @@ public class StompHandler implements ChannelInterceptor {
      *   - /sub/live/5  → 라이브 방송 채팅 (공개, 세션 등록 필요)
      *   - /sub/user/notifications/123 → 개인 알림 (공개)
      *   - /sub/live/new/broadcast → 새 방송 시작 알림 (공개)
+     *   - /sub/auction/7/leaderboard → 경매 실시간 순위표 (공개)
      */
     private void validateRoomPermission(StompHeaderAccessor accessor) {
 
@@ -185,7 +188,7 @@ public class StompHandler implements ChannelInterceptor {
             throw new CustomException(ErrorCode.INVALID_DESTINATION);
         }
 
-        final String category = path[2]; // "chat" or "live"
+        final String category = path[2]; // "chat", "live" or "auction"
         final String id = path[3];       // "12" 등
         log.info("[STOMP][SUBSCRIBE] 파싱됨 - category: {}, id: {}", category, id);
 
@@ -251,6 +254,15 @@ public class StompHandler implements ChannelInterceptor {
                 // 세션 등록 실패해도 구독은 허용 (비정상 종료 감지만 안 될 뿐)
             }
 
+        } else if ("auction".equals(category)) {
+            // 경매 순위표 채널 구독 (공개 접근)
+            try {
+                Integer.parseInt(id);
+            } catch (NumberFormatException e) {
+                throw new CustomException(ErrorCode.INVALID_DESTINATION);
+            }
+            log.info("[SUBSCRIBE] 경매 순위표 구독 허용 - subject: {}, auctionSeq: {}", subject, id);
+
         } else {
             // 지원하지 않는 구독 카테고리
             throw new CustomException(ErrorCode.UNSUPPORTED_CATEGORY);
@@ -0,0 +1,25 @@
+package ssafy.a303.backend.common.config;
+
+import ssafy.a303.backend.user.entity.User;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 사용자 (CONNECT 시 StompHandler 가 JWT 검증 후 한 번 만들어 세션에 묶는다)
+ * - 이후 SEND 프레임은 @MessageMapping 메서드의 Principal 인자로 받으므로 메시지마다 JWT 파싱/사용자 조회가 없다.
+ * - 연결 중 프로필을 바꿔도 재연결 전까지는 연결 시점 값이 쓰인다.
+ * - getName() 은 userSeq 문자열 (기존 인증 객체의 principal 과 동일, /user 목적지 라우팅 기준)
+ * @param profileImg 프로필 이미지 S3 key (presigned URL 아님)
+ */
+public record StompPrincipal(Integer userSeq, String userName, String nickname, String profileImg, String role)
+        implements Principal {
+
+    public static StompPrincipal of(User user, String role) {
+        return new StompPrincipal(user.getUserSeq(), user.getName(), user.getNickname(), user.getProfileImg(), role);
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userSeq);
+    }
+}
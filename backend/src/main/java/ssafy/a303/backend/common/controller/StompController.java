@@ -1,20 +1,19 @@
 package ssafy.a303.backend.common.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.stereotype.Controller;
 import ssafy.a303.backend.chat.dto.request.ChatMessageRequestDto;
 import ssafy.a303.backend.chat.dto.response.ChatMessageResponseDto;
 import ssafy.a303.backend.chat.dto.response.ChatNotificationDto;
-import ssafy.a303.backend.chat.repository.MessageReadStatusRepository;
 import ssafy.a303.backend.chat.service.ChatRedisPubSubService;
 import ssafy.a303.backend.chat.service.ChatService;
+import ssafy.a303.backend.chat.service.ChatWriteBehindService;
+import ssafy.a303.backend.common.config.StompPrincipal;
 import ssafy.a303.backend.common.exception.CustomException;
 import ssafy.a303.backend.common.helper.KoreaClock;
 import ssafy.a303.backend.common.response.ErrorCode;
@@ -23,12 +22,11 @@ import ssafy.a303.backend.livestream.dto.response.LiveChatMessageResponseDto;
 import ssafy.a303.backend.livestream.service.LiveChatService;
 import ssafy.a303.backend.livestream.service.LiveRedisPubSubService;
 import ssafy.a303.backend.user.entity.User;
-import ssafy.a303.backend.user.repository.UserRepository;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
 
+import java.security.Principal;
 import java.time.LocalDateTime;
-import java.util.Base64;
 
 /**
  * StompController (WebSocket 메시지 처리 컨트롤러)
@@ -43,10 +41,12 @@ import java.util.Base64;
  *  1) 클라이언트가 /pub 경로로 메시지를 보낸다.
  *  2) 서버는 @MessageMapping 메서드로 해당 메시지를 수신한다.
  *  3) DB에 저장한 후 Redis Pub/Sub 채널을 통해 /sub 경로 구독자에게 브로드캐스트한다.
+ *     (1:1 채팅 write-behind 모드에서는 Redis Stream 에 추가한 뒤 바로 브로드캐스트하고, DB 적재는 ChatWriteBehindService 가 묶어서 처리)
  * 인증 처리
  *  - CONNECT 시 JWT 인증 검증은 StompHandler에서 수행된다.
  *  - SUBSCRIBE 시 접근 권한(방 참여 여부 등)을 확인할 수 있다.
- *  - SEND(@MessageMapping 실행 시) 현재 로그인 사용자는 SecurityContextHolder에서 가져온다.
+ *  - SEND(@MessageMapping 실행 시) 현재 로그인 사용자는 CONNECT 때 세션에 묶인 StompPrincipal(Principal 인자)을 사용한다.
+ *    (메시지마다 JWT 파싱/사용자 조회를 하지 않는다)
  * =================================================================================================
  */
 @Controller
@@ -54,30 +54,27 @@ import java.util.Base64;
 public class StompController {
 
     private final ChatService chatService;
+    private final ChatWriteBehindService chatWriteBehindService;
     private final ChatRedisPubSubService chatRedisPubSubService;
     private final LiveChatService liveChatService;
     private final LiveRedisPubSubService liveRedisPubSubService;
-    private final UserRepository userRepository;
-    private final MessageReadStatusRepository messageReadStatusRepository;
     private final RedisTemplate<String, Object> liveRedisObjectTemplate;
     private final org.springframework.data.redis.core.StringRedisTemplate liveRedisTemplate;
     private final ObjectMapper objectMapper;
     
     // 생성자 주입
     public StompController(ChatService chatService, 
+                          ChatWriteBehindService chatWriteBehindService,
                           ChatRedisPubSubService chatRedisPubSubService,
                           LiveChatService liveChatService,
                           LiveRedisPubSubService liveRedisPubSubService,
-                          UserRepository userRepository,
-                          MessageReadStatusRepository messageReadStatusRepository,
                           @Qualifier("liveRedisObjectTemplate") RedisTemplate<String, Object> liveRedisObjectTemplate,
                           @Qualifier("liveRedisTemplate") org.springframework.data.redis.core.StringRedisTemplate liveRedisTemplate) {
         this.chatService = chatService;
+        this.chatWriteBehindService = chatWriteBehindService;
         this.chatRedisPubSubService = chatRedisPubSubService;
         this.liveChatService = liveChatService;
         this.liveRedisPubSubService = liveRedisPubSubService;
-        this.userRepository = userRepository;
-        this.messageReadStatusRepository = messageReadStatusRepository;
         this.liveRedisObjectTemplate = liveRedisObjectTemplate;
         this.liveRedisTemplate = liveRedisTemplate;
         
@@ -93,44 +90,18 @@ public class StompController {
     public void sendChatMessage(
             @DestinationVariable Integer roomSeq,
             ChatMessageRequestDto requestDto,
-            @Header("Authorization") String authHeader
+            Principal principal
     ) throws JsonProcessingException {
 
-        log.info("[CHAT] roomSeq={}, content={}", roomSeq, requestDto.getContent());
+        // 1. 발신자 (CONNECT 시 세션에 묶인 사용자)
+        StompPrincipal sender = sessionUser(principal);
 
-        // Authorization 헤더에서 토큰 추출
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new CustomException(ErrorCode.INVALID_AUTH_HEADER);
-        }
-        
-        String token = authHeader.substring(7);
-        
-        // 토큰에서 userSeq 추출 (간단한 방법: JWT 파싱)
-        Integer userSeq;
-        try {
-            String[] parts = token.split("\\.");
-            if (parts.length != 3) {
-                throw new CustomException(ErrorCode.INVALID_TOKEN);
-            }
-            
-            // Payload 디코딩
-            String payload = new String(Base64.getUrlDecoder().decode(parts[1]));
-            JsonNode node = new ObjectMapper().readTree(payload);
-            userSeq = node.get("sub").asInt();
-            
-            log.info("[CHAT] 토큰에서 userSeq 추출: {}", userSeq);
-        } catch (Exception e) {
-            log.error("[CHAT] 토큰 파싱 오류: {}", e.getMessage());
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        }
+        log.info("[CHAT] roomSeq={}, userSeq={}, content={}", roomSeq, sender.userSeq(), requestDto.getContent());
 
-        log.info("[CHAT] userSeq={}", userSeq);
-
-        User sender = userRepository.findById(userSeq)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // 2. DB 저장 및 응답 DTO 생성
-        ChatMessageResponseDto response = chatService.saveMessage(roomSeq, requestDto, sender);
+        // 2. 저장 및 응답 DTO 생성 (write-behind 모드면 Redis Stream 에 추가, DB 적재는 백그라운드)
+        ChatMessageResponseDto response = chatWriteBehindService.isEnabled()
+                ? chatWriteBehindService.append(roomSeq, requestDto, sender)
+                : chatService.saveMessage(roomSeq, requestDto, sender);
 
         // 3. DTO → JSON 문자열 변환
         String payload = objectMapper.writeValueAsString(response);
@@ -139,24 +110,23 @@ public class StompController {
         chatRedisPubSubService.publish("chat:" + roomSeq, payload);
 
         log.info("[REDIS][CHAT] roomSeq={}, sender={}, message={}",
-                roomSeq, sender.getNickname(), response.getContent());
+                roomSeq, sender.nickname(), response.getContent());
 
         // 5. 수신자의 알림 채널로도 발행 (채팅방 목록 구독자용)
         try {
-            User recipient = chatService.getRecipient(roomSeq, sender.getUserSeq());
+            User recipient = chatService.getRecipient(roomSeq, sender.userSeq());
             
             // 수신자 기준 읽지 않은 메시지 개수 조회
-            long unreadCount = messageReadStatusRepository.countByChatRoomIdAndUserUserSeqAndIsReadFalse(
-                    roomSeq, recipient.getUserSeq());
+            long unreadCount = chatService.countUnread(roomSeq, recipient.getUserSeq());
             
             // 알림 DTO 생성
             ChatNotificationDto notification = ChatNotificationDto.builder()
                     .roomSeq(roomSeq)
                     .sender(ChatNotificationDto.SenderDto.builder()
-                            .userSeq(sender.getUserSeq())
-                            .name(sender.getName())
-                            .nickname(sender.getNickname())
-                            .profileImg(sender.getProfileImg())
+                            .userSeq(sender.userSeq())
+                            .name(sender.userName())
+                            .nickname(sender.nickname())
+                            .profileImg(sender.profileImg())
                             .build())
                     .content(response.getContent())
                     .sentAt(response.getSentAt())
@@ -183,31 +153,21 @@ public class StompController {
     public void sendLiveMessage(
             @DestinationVariable Integer liveSeq,
             LiveChatMessageRequestDto requestDto,
-            @Header("Authorization") String authHeader
+            Principal principal
     ) throws JsonProcessingException {
 
         log.info("[STOMP][LIVE] 📨 Message received: liveSeq={}, content={}", liveSeq, requestDto.getContent());
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            log.error("[STOMP][LIVE] ❌ Invalid Authorization header");
-            throw new CustomException(ErrorCode.INVALID_AUTH_HEADER);
-        }
-
-        String token = authHeader.substring(7);
-        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
-        JsonNode node = new ObjectMapper().readTree(payload);
-        Integer userSeq = node.get("sub").asInt();
+        StompPrincipal sender = sessionUser(principal);
+        Integer userSeq = sender.userSeq();
 
         log.info("[STOMP][LIVE] 👤 Sender userSeq: {}", userSeq);
 
-        User sender = userRepository.findById(userSeq)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         // 1) 라이브 메시지 DTO 생성 + Redis 저장
         LiveChatMessageResponseDto response = LiveChatMessageResponseDto.builder()
                 .liveSeq(liveSeq)
                 .senderSeq(userSeq)
-                .senderName(sender.getName())
+                .senderName(sender.userName())
                 .content(requestDto.getContent())
                 .sentAt(LocalDateTime.now(KoreaClock.getClock()))
                 .build();
@@ -241,4 +201,12 @@ public class StompController {
         
         log.info("[STOMP][LIVE] ✅ Message processing complete");
     }
+
+    // CONNECT 에서 JWT 검증 후 세션에 묶인 사용자 (검증 실패한 연결이면 없음)
+    private static StompPrincipal sessionUser(Principal principal) {
+        if (principal instanceof StompPrincipal user) {
+            return user;
+        }
+        throw new CustomException(ErrorCode.USER_NOT_AUTHENTICATED);
+    }
 }
@@ -39,6 +39,14 @@ public enum ErrorCode {
     AUCTION_UNABLE_TO_START(404, HttpStatus.NOT_FOUND, "해당 경매가 진행 가능한 시간이 아닙니다."),
     AMOUNT_MAX_VALUE(400,HttpStatus.BAD_REQUEST,"21억 이상 입찰할 수 없습니다."),
     ALREADY_BID(409, HttpStatus.CONFLICT, "이미 입찰하였습니다."),
+    BID_TOO_MANY_REQUESTS(429, HttpStatus.TOO_MANY_REQUESTS, "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    BID_BELOW_MIN_AMOUNT(400, HttpStatus.BAD_REQUEST, "최저 입찰가보다 낮은 금액은 입찰할 수 없습니다."),
+    BID_AMOUNT_UNIT_MISMATCH(400, HttpStatus.BAD_REQUEST, "입찰 단위에 맞지 않는 금액입니다."),
+    BID_SEND_FAILED(503, HttpStatus.SERVICE_UNAVAILABLE, "입찰을 접수하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_MIN_AUC(400, HttpStatus.BAD_REQUEST, "최저 입찰가는 0 이상이어야 합니다."),
+    AUCTION_ALREADY_SETTLED(409, HttpStatus.CONFLICT, "이미 정산이 끝난 경매입니다."),
+    AUCTION_RESULT_NOT_FOUND(404, HttpStatus.NOT_FOUND, "아직 정산되지 않은 경매입니다."),
+    BID_RECOVERY_NOT_FOUND(404, HttpStatus.NOT_FOUND, "해당 경매의 입찰 복구 기록이 없습니다."),
 
     // 경매/방송 알람
     ALARM_ALREADY_EXIST(406, HttpStatus.NOT_ACCEPTABLE, "이미 알람이 저장되었습니다."),
@@ -149,6 +157,8 @@ public enum ErrorCode {
 
     // 낙찰 관련
     BID_NOT_FOUND(404, HttpStatus.NOT_FOUND, "해당 입찰 정보를 찾을 수 없습니다."),
+    OFFER_EXPIRED(410, HttpStatus.GONE, "낙찰 제안 응답 시간이 만료되었습니다."),
+    OFFER_ALREADY_RESOLVED(409, HttpStatus.CONFLICT, "이미 낙찰자가 결정된 경매입니다."),
     FORBIDDEN(403, HttpStatus.FORBIDDEN, "권한이 없습니다."),
 
     // STOMP 관련
@@ -4,8 +4,10 @@ import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 import ssafy.a303.backend.auction.entity.Auction;
+import ssafy.a303.backend.auction.entity.AuctionResult;
 import ssafy.a303.backend.auction.entity.BidStatus;
 import ssafy.a303.backend.auction.repository.AuctionRepository;
+import ssafy.a303.backend.auction.service.AuctionResultService;
 import ssafy.a303.backend.common.exception.CustomException;
 import ssafy.a303.backend.common.response.ErrorCode;
 import ssafy.a303.backend.contract.entity.Contract;
@@ -20,8 +22,13 @@ import ssafy.a303.backend.property.util.S3Uploader;
 import ssafy.a303.backend.user.repository.UserRepository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static ssafy.a303.backend.auction.entity.BidStatus.ACCEPTED;
@@ -36,17 +43,21 @@ public class MyPageService {
     private final PropertyRepository propertyRepository;
     private final ContractRepository contractRepository;
     private final S3Uploader s3Uploader;
+    private final AuctionResultService auctionResultService;
 
-    public MyPageService(UserRepository userRepository, AuctionRepository auctionRepository, PropertyRepository propertyRepository, ContractRepository contractRepository, S3Uploader s3Uploader) {
+    public MyPageService(UserRepository userRepository, AuctionRepository auctionRepository, PropertyRepository propertyRepository, ContractRepository contractRepository, S3Uploader s3Uploader, AuctionResultService auctionResultService) {
         this.userRepository = userRepository;
         this.auctionRepository = auctionRepository;
         this.propertyRepository = propertyRepository;
         this.contractRepository = contractRepository;
         this.s3Uploader = s3Uploader;
+        this.auctionResultService = auctionResultService;
     }
 
     /**
-     * 나의 경매 참여 내역+각 경매별 순위를 단일 쿼리로 조회
+     * 나의 경매 참여 내역+각 경매별 순위 조회
+     * - 순위는 경매 결과 스냅샷으로 계산하고 (경매마다 COUNT 서브쿼리 없음)
+     * - 낙찰 수락한 경매의 계약은 스냅샷의 contractSeq 로 한 번에 조회한다
      */
     public List<MyAuctionResponseDto> getMyAuctions(Integer userSeq) {
 
@@ -57,6 +68,22 @@ public class MyPageService {
         //2. 해당 유저가 참여한 경매 내역 리스트 조회 (순위 포함)
         List<Object[]> results = auctionRepository.getMyAuctionsWithRank(userSeq);
 
+        //3. 경매 결과 스냅샷 + 계약 일괄 조회
+        Set<Integer> auctionSeqs = new HashSet<>();
+        for (Object[] row : results) {
+            auctionSeqs.add((Integer) row[1]);
+        }
+        Map<Integer, AuctionResult> snapshots = auctionResultService.getSnapshots(auctionSeqs);
+
+        List<Integer> contractSeqs = new ArrayList<>();
+        for (AuctionResult snapshot : snapshots.values()) {
+            if (snapshot.getContractSeq() != null) contractSeqs.add(snapshot.getContractSeq());
+        }
+        Map<Integer, Contract> contracts = new HashMap<>();
+        for (Contract contract : contractRepository.findAllById(contractSeqs)) {
+            contracts.put(contract.getContractSeq(), contract);
+        }
+
         return results.stream().map(row -> {
             String thumbnail = (String) row[0];
 
@@ -70,7 +97,13 @@ public class MyPageService {
             BidStatus bidStatus = (BidStatus) row[3];
             String address = (String) row[4];
             Integer bidAmount = (Integer) row[5];
-            int bidRank = ((Long) row[6]).intValue();
+            Integer rank = (Integer) row[6];
+
+            AuctionResult snapshot = snapshots.get(auctionSeq);
+            // 스냅샷이 없으면 (정산 중, 또는 이전 정산분을 아직 채우기 전) 거절 정보 없이 정산 순위 그대로 (LOST 는 최대 후보 수)
+            int bidRank = snapshot != null
+                    ? snapshot.countAhead(rank)
+                    : Math.min(rank == null ? 0 : rank, AuctionResult.CANDIDATE_LIMIT);
 
             // 계약 seq 조회
             Integer contractSeq = null;
@@ -78,8 +111,13 @@ public class MyPageService {
             ContractStatus contractStatus = null;
 
             if (bidStatus.equals(ACCEPTED)) {
-                Optional<Contract> contractOpt = contractRepository
-                        .findTopByPropertySeqOrderByCreatedAtDesc(propertySeq);
+                // 스냅샷에 계약이 연결되기 전에 수락된 경매만 매물 기준으로 조회
+                Contract linked = snapshot != null && snapshot.getContractSeq() != null
+                        ? contracts.get(snapshot.getContractSeq())
+                        : null;
+                Optional<Contract> contractOpt = linked != null
+                        ? Optional.of(linked)
+                        : contractRepository.findTopByPropertySeqOrderByCreatedAtDesc(propertySeq);
 
                 if (contractOpt.isPresent()) {
                     Contract contract = contractOpt.get();
@@ -14,7 +14,9 @@ public record PropertyAucInfoUpdateRequestDto(
         @Schema(description = "경매 일시", example = "2025-12-12")
         LocalDateTime aucAt,
         @Schema(description = "경매 희망 일시", example = "2025-12-12")
-        String aucAvailable
+        String aucAvailable,
+        @Schema(description = "최저 입찰가 (진행 중인 경매에는 시작 시점 값이 유지됨)", example = "1000000")
+        Integer minAuc
 
 ) {
 }
@@ -85,6 +85,8 @@ public record PropertyDetailRequestDto(
         LocalDateTime aucAt,
         @Schema(description = "경매 가능 일시", example = "2025-12-12")
         String aucAvailable,
+        @Schema(description = "최저 입찰가 (없으면 하한 없음)", example = "1000000")
+        Integer minAuc,
 
         //AI 관련
         @Schema(description = "pdf 코드", example = "sfdsfsf")
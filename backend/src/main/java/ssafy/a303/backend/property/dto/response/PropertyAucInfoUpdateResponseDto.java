@@ -16,6 +16,8 @@ public record PropertyAucInfoUpdateResponseDto(
         @Schema(description = "경매 일자", example = "2025-12-12")
         LocalDateTime aucAt,
         @Schema(description = "경매 가능 일시", example = "2025-12-12")
-        String aucAvailable
+        String aucAvailable,
+        @Schema(description = "최저 입찰가", example = "1000000")
+        Integer minAuc
 ) {
 }
@@ -112,6 +112,7 @@ public class Property {
     @Column(name = "pet_available")
     private Boolean petAvailable;
 
+    // 최저 입찰가 (없으면 하한 없음). 경매 시작 시 진행 표식에 기록되어 그 경매 동안 고정된다
     @Column(name = "min_auc")
     private Integer minAuc;
 
@@ -143,6 +144,10 @@ public class Property {
         this.thumbnail = thumbnail;
     }
 
+    public void updateMinAuc(Integer minAuc) {
+        this.minAuc = minAuc;
+    }
+
     public void delete(String deletedAt){
         this.deletedAt = deletedAt;
     }
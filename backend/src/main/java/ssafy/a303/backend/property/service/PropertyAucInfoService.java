@@ -3,6 +3,8 @@ package ssafy.a303.backend.property.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import ssafy.a303.backend.common.exception.CustomException;
+import ssafy.a303.backend.common.response.ErrorCode;
 import ssafy.a303.backend.property.dto.request.PropertyAucInfoUpdateRequestDto;
 import ssafy.a303.backend.property.dto.response.PropertyAucInfoUpdateResponseDto;
 import ssafy.a303.backend.property.entity.Property;
@@ -42,13 +44,17 @@ public class PropertyAucInfoService {
         if(req.isBrkPref() != null) aucInfo.updateIsBrkPref(req.isBrkPref());
         if(req.aucAt() != null) aucInfo.updateAucAt(req.aucAt());
         if(req.aucAvailable() != null) aucInfo.updateAucAvailable(req.aucAvailable());
+        if(req.minAuc() != null) {
+            if(req.minAuc() < 0) throw new CustomException(ErrorCode.INVALID_MIN_AUC);
+            p.updateMinAuc(req.minAuc());
+        }
 
         // 수정 사항 저장.
         aucInfoRepository.save(aucInfo);
 
         return new PropertyAucInfoUpdateResponseDto(
                 p.getPropertySeq(), aucInfo.getIsAucPref(), aucInfo.getIsBrkPref(),
-                aucInfo.getAucAt(), aucInfo.getAucAvailable()
+                aucInfo.getAucAt(), aucInfo.getAucAvailable(), p.getMinAuc()
         );
     }
 }
@@ -72,6 +72,9 @@ public class PropertyService {
 
         User lessor = userRepository.findById(userSeq)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (req.minAuc() != null && req.minAuc() < 0) {
+            throw new CustomException(ErrorCode.INVALID_MIN_AUC);
+        }
 
         // 매물 정보 등록
         Property p = Property.builder()
@@ -97,6 +100,7 @@ public class PropertyService {
                 .parkingCnt(req.parkingCnt())
                 .hasElevator(req.hasElevator())
                 .petAvailable(req.petAvailable())
+                .minAuc(req.minAuc())
                 .hasBrk(false)
                 .isCertificated(req.isCertificated())
                 .build();
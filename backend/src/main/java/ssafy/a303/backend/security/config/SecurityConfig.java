@@ -63,6 +63,8 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // JSESSIONID 생성 못하도록
                 .requestCache(rc -> rc.requestCache(requestCache()))
                 .authorizeHttpRequests(auth -> auth // URL 인가 규칙
+                        // 입찰 랭킹 복구/DLT 조회·재처리는 입찰 내역을 노출하거나 다시 쓰므로 관리자만 (아래 /api/v1/admin/** 허용보다 먼저 적용)
+                        .requestMatchers("/api/v1/admin/auction/bid/**").hasRole("ADMIN")
                         .requestMatchers(
                                 "/api/v1/public/**",
                                 "/oauth2/**", // google OAuth 시작점
@@ -3,4 +3,6 @@ package ssafy.a303.backend.user.entity;
 public enum Role {
     USER,
     BROKER,
+    // 운영용 API (/api/v1/admin/auction/bid/**) 전용, 가입 경로로는 부여되지 않는다
+    ADMIN,
 }
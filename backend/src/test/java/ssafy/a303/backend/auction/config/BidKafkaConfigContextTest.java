@@ -0,0 +1,53 @@
+package ssafy.a303.backend.auction.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.kafka.core.KafkaTemplate;
+import ssafy.a303.backend.auction.kafka.BidEventConsumer;
+import ssafy.a303.backend.auction.kafka.BidEventProducer;
+import ssafy.a303.backend.auction.service.BidDeadLetterService;
+import ssafy.a303.backend.auction.service.BidRankService;
+import ssafy.a303.backend.common.config.SchedulingConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 입찰 Kafka 빈 구성 확인 (브로커 없이 컨텍스트 기동만 검사)
+ * - KafkaTemplate 은 BidKafkaConfig 의 @Primary KafkaTemplate<Object, Object> 하나뿐이므로,
+ *   주입 지점의 제네릭 타입이 다르면 여기서 기동에 실패한다.
+ */
+class BidKafkaConfigContextTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(KafkaAutoConfiguration.class))
+            .withUserConfiguration(BidKafkaConfig.class, SchedulingConfig.class)
+            .withBean(BidRankService.class, () -> mock(BidRankService.class))
+            .withBean(BidEventProducer.class)
+            .withBean(BidEventConsumer.class)
+            .withBean(BidDeadLetterService.class)
+            .withPropertyValues(
+                    "spring.kafka.bootstrap-servers=localhost:1",
+                    "spring.kafka.admin.auto-create=false",
+                    "spring.kafka.listener.auto-startup=false"
+            );
+
+    @Test
+    void contextLoads() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(BidEventProducer.class);
+            assertThat(context).hasSingleBean(BidEventConsumer.class);
+            assertThat(context).hasSingleBean(BidDeadLetterService.class);
+            assertThat(context).getBean(KafkaTemplate.class).isSameAs(context.getBean("kafkaTemplate"));
+        });
+    }
+
+    @Test
+    void contextLoadsWithJsonSerde() {
+        contextRunner.withPropertyValues("bid.serde=json")
+                .run(context -> assertThat(context).hasNotFailed().hasSingleBean(BidEventProducer.class));
+    }
+}
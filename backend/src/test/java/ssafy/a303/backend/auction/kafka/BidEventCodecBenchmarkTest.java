@@ -0,0 +1,68 @@
+package ssafy.a303.backend.auction.kafka;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.common.helper.DataSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 메시지 JSON vs 바이너리 코덱 비교 (간이 측정, JIT 워밍업 후 반복 평균)
+ * - 바이너리가 JSON 보다 작고, 인코딩/디코딩 모두 빨라야 한다.
+ * - 실행 시간이 길고 측정값이 장비에 따라 흔들리므로 기본 test 태스크에서는 제외된다. 실행: ./gradlew loadTest
+ */
+@Tag("load")
+class BidEventCodecBenchmarkTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final BidEventMessage message = new BidEventMessage(
+            1024, 777, 1_500_000L, LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS), UUID.randomUUID());
+
+    @Test
+    void binaryIsSmallerThanJson() {
+        int jsonBytes = DataSerializer.serialize(message).getBytes(StandardCharsets.UTF_8).length;
+
+        assertThat(BidEventCodec.encode(message)).hasSizeLessThan(jsonBytes);
+        // Redis payload 는 Base64 문자열이라 4/3 배가 되지만 그래도 JSON 보다 작아야 한다
+        assertThat(BidEventCodec.encodeToString(message).length())
+                .isEqualTo((BidEventCodec.SIZE + 2) / 3 * 4)
+                .isLessThan(jsonBytes);
+    }
+
+    @Test
+    void binaryIsFasterThanJson() {
+        String json = DataSerializer.serialize(message);
+        byte[] binary = BidEventCodec.encode(message);
+
+        double jsonEncode = measure(() -> DataSerializer.serialize(message));
+        double binaryEncode = measure(() -> BidEventCodec.encode(message));
+        double jsonDecode = measure(() -> DataSerializer.deserialize(json, BidEventMessage.class));
+        double binaryDecode = measure(() -> BidEventCodec.decode(binary));
+
+        assertThat(binaryEncode).as("encode ns/op (json=%.1f)", jsonEncode).isLessThan(jsonEncode);
+        assertThat(binaryDecode).as("decode ns/op (json=%.1f)", jsonDecode).isLessThan(jsonDecode);
+    }
+
+    private static double measure(Supplier<Object> task) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = task.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = task.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotNull();
+        return (double) elapsed / ITERATIONS;
+    }
+}
@@ -0,0 +1,60 @@
+package ssafy.a303.backend.auction.kafka;
+
+import org.junit.jupiter.api.Test;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 메시지 바이너리 코덱 인코딩/디코딩 확인
+ */
+class BidEventCodecTest {
+
+    private final BidEventMessage message = new BidEventMessage(
+            1024, 777, 1_500_000L, LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS), UUID.randomUUID());
+
+    @Test
+    void roundTrip() {
+        assertThat(BidEventCodec.decode(BidEventCodec.encode(message))).isEqualTo(message);
+        assertThat(BidEventCodec.decodeFromString(BidEventCodec.encodeToString(message))).isEqualTo(message);
+        assertThat(BidEventCodec.encode(message)).hasSize(BidEventCodec.SIZE);
+    }
+
+    @Test
+    void decodeVersion1() {
+        byte[] v1 = Arrays.copyOf(BidEventCodec.encode(message), 25);
+        v1[0] = 1;
+
+        BidEventMessage decoded = BidEventCodec.decode(v1);
+        assertThat(decoded.bidId()).isNull();
+        assertThat(decoded.auctionSeq()).isEqualTo(message.auctionSeq());
+        assertThat(decoded.userSeq()).isEqualTo(message.userSeq());
+        assertThat(decoded.amount()).isEqualTo(message.amount());
+        assertThat(decoded.bidAt()).isEqualTo(message.bidAt());
+    }
+
+    /* Redis payload(Base64) 로 저장된 v1/v2 입찰이 다시 읽고 써도 값이 바뀌지 않는지 */
+    @Test
+    void payloadRoundTrip() {
+        String v2 = BidEventCodec.encodeToString(message);
+        assertThat(BidEventCodec.decodeFromString(v2)).isEqualTo(message);
+
+        byte[] v1Bytes = Arrays.copyOf(BidEventCodec.encode(message), 25);
+        v1Bytes[0] = 1;
+        BidEventMessage fromV1 = BidEventCodec.decodeFromString(Base64.getEncoder().encodeToString(v1Bytes));
+        assertThat(fromV1).isEqualTo(new BidEventMessage(
+                message.auctionSeq(), message.userSeq(), message.amount(), message.bidAt(), null));
+
+        // v1 을 다시 쓰면 v2 가 되고, bidId 가 없다는 것도 유지된다
+        byte[] rewritten = BidEventCodec.encode(fromV1);
+        assertThat(rewritten).hasSize(BidEventCodec.SIZE);
+        assertThat(rewritten[0]).isEqualTo(BidEventCodec.VERSION);
+        assertThat(BidEventCodec.decodeFromString(BidEventCodec.encodeToString(fromV1))).isEqualTo(fromV1);
+    }
+}
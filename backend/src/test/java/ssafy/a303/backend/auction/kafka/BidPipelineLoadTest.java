@@ -0,0 +1,441 @@
+package ssafy.a303.backend.auction.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import ssafy.a303.backend.auction.controller.BidController;
+import ssafy.a303.backend.auction.dto.request.BidEventMessage;
+import ssafy.a303.backend.auction.dto.request.BidRequestDTO;
+import ssafy.a303.backend.auction.repository.AuctionInProgressCache;
+import ssafy.a303.backend.auction.repository.AuctionInProgressRepository;
+import ssafy.a303.backend.auction.repository.BidRankRepository;
+import ssafy.a303.backend.auction.repository.BidRateLimitRepository;
+import ssafy.a303.backend.auction.repository.BidRedisRouter;
+import ssafy.a303.backend.auction.repository.BidTryCountRepository;
+import ssafy.a303.backend.auction.repository.KnownBidderCache;
+import ssafy.a303.backend.auction.service.AuctionResultService;
+import ssafy.a303.backend.auction.service.BidLeaderboardPubSubService;
+import ssafy.a303.backend.auction.service.BidLeaderboardService;
+import ssafy.a303.backend.auction.service.BidRankService;
+import ssafy.a303.backend.auction.service.BidRateLimiter;
+import ssafy.a303.backend.auction.service.BidService;
+import ssafy.a303.backend.common.exception.CustomException;
+import ssafy.a303.backend.common.helper.KoreaClock;
+import ssafy.a303.backend.common.response.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 입찰 파이프라인 부하 테스트
+ * BidController → BidEventProducer → Kafka(embedded) → BidEventConsumer → Redis(로컬) 를 실제 구현으로 연결하고
+ * 가상 입찰자를 돌려 처리량과 지연(p50/p99/p999, 입찰 전송 → 랭킹 반영 완료)을 출력한다.
+ * - 기본 test 태스크에서는 제외된다. 실행: ./gradlew loadTest (로컬 Redis 가 없으면 건너뜀)
+ * - 입찰 순서/금액/bidId 는 load.seed 로 고정되므로 같은 설정이면 같은 시나리오가 재현된다.
+ * - 설정(-D): load.redis.host/port/database, load.seed, load.threads,
+ *   load.auctions, load.bidders, load.storm.bidders, load.storm.auction-ms, load.storm.window-ms
+ */
+@Tag("load")
+class BidPipelineLoadTest {
+
+    private static final String REDIS_HOST = System.getProperty("load.redis.host", "localhost");
+    private static final int REDIS_PORT = Integer.getInteger("load.redis.port", 6379);
+    private static final int REDIS_DATABASE = Integer.getInteger("load.redis.database", 15);
+
+    private static final long SEED = Long.getLong("load.seed", 303L);
+    private static final int THREADS = Integer.getInteger("load.threads", 32);
+    private static final int PARTITIONS = 6;
+    private static final int CONCURRENCY = 3;
+
+    // 운영 데이터와 겹치지 않는 경매 번호 대역
+    private static final int AUCTION_BASE = 900_000;
+
+    private static final int AUCTIONS = Integer.getInteger("load.auctions", 20);
+    private static final int BIDDERS = Integer.getInteger("load.bidders", 2_000);
+
+    private static final int STORM_BIDDERS = Integer.getInteger("load.storm.bidders", 20_000);
+    private static final long STORM_AUCTION_MILLIS = Long.getLong("load.storm.auction-ms", 10_000L);
+    private static final long STORM_WINDOW_MILLIS = Long.getLong("load.storm.window-ms", 2_000L);
+    private static final double STORM_WARMUP_RATIO = 0.1;
+
+    private static final long DRAIN_TIMEOUT_MILLIS = 120_000L;
+
+    // 최저 입찰가 (Bid.random 금액은 모두 이 이상)
+    private static final int MIN_AMOUNT = 1_000_000;
+
+    private static LettuceConnectionFactory redisFactory;
+    private static StringRedisTemplate redis;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private DefaultKafkaProducerFactory<String, BidEventMessage> producerFactory;
+    private ConcurrentMessageListenerContainer<String, BidEventMessage> container;
+
+    private BidRankRepository bidRankRepository;
+    private BidTryCountRepository bidTryCountRepository;
+    private AuctionInProgressRepository auctionInProgressRepository;
+    private BidController bidController;
+
+    private final List<Integer> usedAuctions = new ArrayList<>();
+    private final Map<UUID, Long> sentAt = new ConcurrentHashMap<>();
+    private final Map<ErrorCode, LongAdder> rejected = new ConcurrentHashMap<>();
+    private final LongAdder sent = new LongAdder();
+    private LatencyRecorder latencies;
+
+    @BeforeAll
+    static void connectRedis() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(REDIS_HOST, REDIS_PORT);
+        config.setDatabase(REDIS_DATABASE);
+        redisFactory = new LettuceConnectionFactory(config);
+        redisFactory.afterPropertiesSet();
+        redis = new StringRedisTemplate(redisFactory);
+
+        boolean reachable;
+        try {
+            redis.execute((RedisCallback<String>) c -> c.ping());
+            reachable = true;
+        } catch (RuntimeException e) {
+            reachable = false;
+        }
+        assumeTrue(reachable, "로컬 Redis(" + REDIS_HOST + ":" + REDIS_PORT + ")에 연결할 수 없어 부하 테스트를 건너뜁니다.");
+    }
+
+    @AfterAll
+    static void closeRedis() {
+        if (redisFactory != null) {
+            redisFactory.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS,
+                Topic.AUCTION_BID.getTopic(), Topic.AUCTION_BID_RETRY.getTopic(), Topic.AUCTION_BID_DLT.getTopic());
+        broker.afterPropertiesSet();
+
+        // Redis 쪽: 운영과 같은 구성 (샤드 1개)
+        BidRedisRouter router = new BidRedisRouter(Map.of("local", redis), List.of());
+        bidRankRepository = new BidRankRepository(router, "binary");
+        bidTryCountRepository = new BidTryCountRepository(router);
+        KnownBidderCache knownBidderCache = new KnownBidderCache();
+        auctionInProgressRepository = new AuctionInProgressRepository(redis, router,
+                new AuctionInProgressCache(knownBidderCache, 1000), 1);
+        BidLeaderboardService leaderboard = new BidLeaderboardService(bidRankRepository,
+                new BidLeaderboardPubSubService(redis, mock(SimpMessageSendingOperations.class)), 10);
+        BidRateLimiter rateLimiter = new BidRateLimiter(new BidRateLimitRepository(router), 3, 1);
+        BidRankService bidRankService = new BidRankService(bidRankRepository, auctionInProgressRepository,
+                bidTryCountRepository, leaderboard, rateLimiter, knownBidderCache);
+
+        // Kafka 쪽: application.yml 의 producer/consumer 설정과 같은 값
+        Map<String, Object> producerProps = new HashMap<>();
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        producerProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        producerProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new BidEventSerializer());
+        KafkaTemplate<String, BidEventMessage> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        @SuppressWarnings("unchecked")
+        KafkaTemplate<Object, Object> objectTemplate = (KafkaTemplate<Object, Object>) (KafkaTemplate<?, ?>) kafkaTemplate;
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(objectTemplate,
+                (record, e) -> new TopicPartition(Topic.AUCTION_BID_RETRY.getTopic(), -1));
+
+        @SuppressWarnings("unchecked")
+        ReplyingKafkaTemplate<Object, Object, Object> replyingTemplate = mock(ReplyingKafkaTemplate.class);
+
+        BidEventProducer producer = new BidEventProducer(bidRankService, objectTemplate, replyingTemplate);
+        BidEventConsumer consumer = new BidEventConsumer(bidRankService, objectTemplate, recoverer);
+        bidController = new BidController(producer, mock(BidService.class), bidRankService, mock(AuctionResultService.class));
+
+        Map<String, Object> consumerProps = new HashMap<>();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, "auction-bid-group");
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        DefaultKafkaConsumerFactory<String, BidEventMessage> consumerFactory =
+                new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new BidEventDeserializer());
+
+        // 배치 반영(ack 포함)이 끝난 시점을 랭킹 반영 완료로 본다
+        ContainerProperties containerProps = new ContainerProperties(Topic.AUCTION_BID.getTopic());
+        containerProps.setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        containerProps.setMessageListener((BatchAcknowledgingMessageListener<String, BidEventMessage>) (records, ack) -> {
+            consumer.consume(records, ack);
+            long now = System.nanoTime();
+            for (ConsumerRecord<String, BidEventMessage> record : records) {
+                Long start = sentAt.remove(record.value().bidId());
+                if (start != null) {
+                    latencies.record(now - start, now);
+                }
+            }
+        });
+        container = new ConcurrentMessageListenerContainer<>(consumerFactory, containerProps);
+        container.setConcurrency(CONCURRENCY);
+        container.start();
+        ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null) container.stop();
+        if (producerFactory != null) producerFactory.destroy();
+        if (broker != null) broker.destroy();
+        for (int auctionSeq : usedAuctions) {
+            bidRankRepository.deleteKey(auctionSeq);
+            bidTryCountRepository.deleteKey(auctionSeq);
+            auctionInProgressRepository.deleteKey(auctionSeq);
+        }
+    }
+
+    /* 여러 경매에 입찰이 고르게 들어오는 정상 부하 */
+    @Test
+    void steadyLoad() throws Exception {
+        LocalDateTime endAt = LocalDateTime.now(KoreaClock.getClock()).plusMinutes(10);
+        for (int i = 0; i < AUCTIONS; i++) {
+            enroll(AUCTION_BASE + i, endAt);
+        }
+
+        Random random = new Random(SEED);
+        List<Bid> bids = new ArrayList<>(AUCTIONS * BIDDERS);
+        for (int i = 0; i < AUCTIONS; i++) {
+            for (int user = 1; user <= BIDDERS; user++) {
+                bids.add(Bid.random(AUCTION_BASE + i, user, random));
+            }
+        }
+        Collections.shuffle(bids, random);
+        latencies = new LatencyRecorder(bids.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Bid bid : bids) {
+                executor.execute(() -> send(bid));
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(DRAIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        }
+        awaitDrained();
+
+        long ranked = 0;
+        for (int i = 0; i < AUCTIONS; i++) {
+            ranked += rankedCount(AUCTION_BASE + i);
+        }
+        report("steady", ranked);
+
+        assertThat(rejected).isEmpty();
+        assertThat(latencies.count()).isEqualTo(bids.size());
+        assertThat(ranked).isEqualTo(bids.size());
+    }
+
+    /*
+     * 마감 직전 입찰 폭주 (경매 1건)
+     * - 경매 시간(load.storm.auction-ms) 동안 입찰자의 10% 가 마감 창 이전 구간에 고르게 입찰한다.
+     * - 나머지 90% 는 마감 load.storm.window-ms 전에 동시에 풀려나 가능한 한 빨리 입찰한다.
+     *   마감을 넘긴 입찰은 전송 전 검사(AUCTION_NOT_IN_PROGRESS) 또는 입찰 스크립트(CLOSED)에서 걸러진다.
+     */
+    @Test
+    void lastMinuteStorm() throws Exception {
+        int auctionSeq = AUCTION_BASE + 999;
+        long startMillis = System.currentTimeMillis();
+        long endMillis = startMillis + STORM_AUCTION_MILLIS;
+        long stormAtMillis = endMillis - STORM_WINDOW_MILLIS;
+        enroll(auctionSeq, LocalDateTime.now(KoreaClock.getClock()).plusNanos(STORM_AUCTION_MILLIS * 1_000_000));
+
+        Random random = new Random(SEED);
+        List<Bid> bids = new ArrayList<>(STORM_BIDDERS);
+        for (int user = 1; user <= STORM_BIDDERS; user++) {
+            bids.add(Bid.random(auctionSeq, user, random));
+        }
+        Collections.shuffle(bids, random);
+        latencies = new LatencyRecorder(bids.size());
+
+        int warmup = (int) (bids.size() * STORM_WARMUP_RATIO);
+        List<Bid> warmupBids = bids.subList(0, warmup);
+        List<Bid> stormBids = bids.subList(warmup, bids.size());
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        ExecutorService stormExecutor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicLong lateSends = new AtomicLong();
+        try {
+            long warmupSpan = Math.max(1, stormAtMillis - startMillis);
+            for (int i = 0; i < warmupBids.size(); i++) {
+                Bid bid = warmupBids.get(i);
+                long delay = warmupSpan * i / Math.max(1, warmupBids.size());
+                scheduler.schedule(() -> send(bid), delay, TimeUnit.MILLISECONDS);
+            }
+
+            AtomicInteger cursor = new AtomicInteger();
+            for (int t = 0; t < THREADS; t++) {
+                stormExecutor.execute(() -> {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    int index;
+                    while ((index = cursor.getAndIncrement()) < stormBids.size()) {
+                        if (System.currentTimeMillis() >= endMillis) lateSends.incrementAndGet();
+                        send(stormBids.get(index));
+                    }
+                });
+            }
+            scheduler.schedule(gate::countDown, stormAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            scheduler.shutdown();
+            stormExecutor.shutdown();
+            assertThat(scheduler.awaitTermination(DRAIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+            assertThat(stormExecutor.awaitTermination(DRAIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        }
+        awaitDrained();
+
+        long ranked = rankedCount(auctionSeq);
+        report("storm", ranked);
+        System.out.printf("[BidLoad] storm  : warm-up %d, storm %d in last %d ms, sent after endAt %d%n",
+                warmupBids.size(), stormBids.size(), STORM_WINDOW_MILLIS, lateSends.get());
+
+        assertThat(latencies.count()).isEqualTo(sent.sum());
+        assertThat(ranked).isLessThanOrEqualTo(sent.sum());
+        assertThat(ranked).isGreaterThanOrEqualTo(warmupBids.size());
+    }
+
+    private void enroll(int auctionSeq, LocalDateTime endAt) {
+        usedAuctions.add(auctionSeq);
+        bidRankRepository.deleteKey(auctionSeq);
+        bidTryCountRepository.deleteKey(auctionSeq);
+        auctionInProgressRepository.enrollAuctionInProgress(auctionSeq, endAt, MIN_AMOUNT);
+    }
+
+    private void send(Bid bid) {
+        long start = System.nanoTime();
+        latencies.markSent(start);
+        sentAt.put(bid.bidId(), start);
+        try {
+            bidController.sendBid(bid.userSeq(), new BidRequestDTO(bid.auctionSeq(), bid.amount(), bid.bidId()));
+            sent.increment();
+        } catch (CustomException e) {
+            sentAt.remove(bid.bidId());
+            rejected.computeIfAbsent(e.getErrorCode(), k -> new LongAdder()).increment();
+        }
+    }
+
+    // 전송한 입찰이 모두 consumer 에서 처리될 때까지 대기
+    private void awaitDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        while (latencies.count() < sent.sum() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private long rankedCount(int auctionSeq) {
+        Long count = redis.opsForZSet().zCard("bid::auction::" + auctionSeq);
+        return count == null ? 0 : count;
+    }
+
+    private void report(String scenario, long ranked) {
+        double seconds = latencies.elapsedNanos() / 1e9;
+        Map<ErrorCode, Long> rejectedByCode = new EnumMap<>(ErrorCode.class);
+        rejected.forEach((code, count) -> rejectedByCode.put(code, count.sum()));
+
+        System.out.printf("[BidLoad] %-6s : sent %d, processed %d, ranked %d, rejected %s%n",
+                scenario, sent.sum(), latencies.count(), ranked, rejectedByCode);
+        System.out.printf("[BidLoad] %-6s : %.2f s, %.1f bids/s%n",
+                scenario, seconds, seconds == 0 ? 0 : latencies.count() / seconds);
+        System.out.printf("[BidLoad] %-6s : latency p50 %.2f ms, p99 %.2f ms, p999 %.2f ms, max %.2f ms%n",
+                scenario, latencies.percentileMillis(0.50), latencies.percentileMillis(0.99),
+                latencies.percentileMillis(0.999), latencies.percentileMillis(1.0));
+    }
+
+    private record Bid(int auctionSeq, int userSeq, long amount, UUID bidId) {
+
+        // 10만 원 단위 100만 ~ 1억 원
+        static Bid random(int auctionSeq, int userSeq, Random random) {
+            long amount = (10 + random.nextInt(990)) * 100_000L;
+            return new Bid(auctionSeq, userSeq, amount, new UUID(random.nextLong(), random.nextLong()));
+        }
+    }
+
+    /* 지연 샘플(ns) + 첫 전송/마지막 반영 시각 */
+    private static final class LatencyRecorder {
+
+        private final long[] samples;
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicLong firstSent = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastProcessed = new AtomicLong(Long.MIN_VALUE);
+
+        LatencyRecorder(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        void markSent(long nanos) {
+            firstSent.accumulateAndGet(nanos, Math::min);
+        }
+
+        void record(long latencyNanos, long nowNanos) {
+            int index = size.getAndIncrement();
+            if (index < samples.length) samples[index] = latencyNanos;
+            lastProcessed.accumulateAndGet(nowNanos, Math::max);
+        }
+
+        int count() {
+            return Math.min(size.get(), samples.length);
+        }
+
+        long elapsedNanos() {
+            return count() == 0 ? 0 : lastProcessed.get() - firstSent.get();
+        }
+
+        double percentileMillis(double p) {
+            int n = count();
+            if (n == 0) return 0;
+            long[] sorted = Arrays.copyOf(samples, n);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(p * n) - 1;
+            return sorted[Math.max(0, Math.min(n - 1, index))] / 1e6;
+        }
+    }
+}
@@ -11,19 +11,37 @@ interface ChatMessageListProps {
   messages: ChatRoomHistoryResponseData[]
   currentUserSeq: number
   partnerProfileImage?: string
+  hasOlderMessages?: boolean
+  onLoadOlderMessages?: () => void
 }
 
 export default function ChatMessageList({
   messages,
   currentUserSeq,
   partnerProfileImage = '/default-profile.svg',
+  hasOlderMessages,
+  onLoadOlderMessages,
 }: ChatMessageListProps) {
   const messagesEndRef = useRef<HTMLDivElement>(null)
+  const loadOlderRef = useRef<HTMLDivElement>(null)
+  const lastMessageSeq = messages[messages.length - 1]?.messageSeq
 
-  // 메시지가 추가되면 자동으로 스크롤
+  // 새 메시지가 추가되면 자동으로 스크롤 (이전 메시지를 불러온 경우는 제외)
   useEffect(() => {
     messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' })
-  }, [messages])
+  }, [lastMessageSeq])
+
+  // 맨 위가 보이면 이전 메시지 요청
+  useEffect(() => {
+    const target = loadOlderRef.current
+    if (!target || !hasOlderMessages || !onLoadOlderMessages) return
+
+    const observer = new IntersectionObserver(entries => {
+      if (entries[0].isIntersecting) onLoadOlderMessages()
+    })
+    observer.observe(target)
+    return () => observer.disconnect()
+  }, [hasOlderMessages, onLoadOlderMessages])
 
   // 날짜 구분선 표시 여부 확인
   const shouldShowDateDivider = (
@@ -92,6 +110,9 @@ export default function ChatMessageList({
 
   return (
     <div className="flex flex-1 flex-col gap-1 overflow-y-auto bg-blue-50 pb-4">
+      {/* 이전 메시지 로드 타겟 */}
+      {hasOlderMessages && <div ref={loadOlderRef} className="h-1 shrink-0" />}
+
       {messages.map((message, index) => {
         const prevMessage = index > 0 ? messages[index - 1] : undefined
         const nextMessage = index < messages.length - 1 ? messages[index + 1] : undefined
@@ -1,7 +1,7 @@
 'use client'
 
-import { useQueryClient } from '@tanstack/react-query'
-import { useEffect, useMemo } from 'react'
+import { InfiniteData, useQueryClient } from '@tanstack/react-query'
+import { useCallback, useEffect, useMemo } from 'react'
 import { useShallow } from 'zustand/react/shallow'
 
 import ChatRoomList from '@/components/features/chat/room/ChatRoomList'
@@ -15,7 +15,7 @@ import {
 import { useGetChatRoomList } from '@/queries/useChat'
 import { useUser } from '@/queries/useUser'
 import { useChatStore } from '@/store/chatStore'
-import { ChatRoomListResponseData } from '@/types/api/chat'
+import { ChatRoomListResponseData, ChatSlice } from '@/types/api/chat'
 
 interface ChatListContentProps {
   authToken: string | null
@@ -24,9 +24,15 @@ interface ChatListContentProps {
 export default function ChatListContent({ authToken }: ChatListContentProps) {
   const queryClient = useQueryClient()
   const { data: user } = useUser()
-  const { data: chatRooms, refetch } = useGetChatRoomList()
+  const { data: chatRooms, refetch, hasNextPage, isFetchingNextPage, fetchNextPage } =
+    useGetChatRoomList()
   const { updateLastMessage, updateUnreadCount } = useChatStore()
 
+  // 목록 끝에 닿으면 다음 페이지 로드 (이미 불러오는 중이면 무시)
+  const loadMore = useCallback(() => {
+    if (!isFetchingNextPage) fetchNextPage()
+  }, [isFetchingNextPage, fetchNextPage])
+
   // Zustand에서 마지막 메시지 정보 가져오기
   const lastMessages = useChatStore(useShallow(state => state.lastMessages))
 
@@ -109,25 +115,31 @@ export default function ChatListContent({ authToken }: ChatListContentProps) {
       updateUnreadCount(notification.roomSeq, notification.unreadCount)
 
       // 채팅방 목록 캐시 업데이트
-      queryClient.setQueryData<ChatRoomListResponseData[] | null>(
+      queryClient.setQueryData<InfiniteData<ChatSlice<ChatRoomListResponseData>>>(
         chatQueryKeys.rooms(),
         oldData => {
           if (!oldData) return oldData
 
-          return oldData.map(room => {
-            // 알림이 온 채팅방 찾기
-            if (room.roomSeq === notification.roomSeq) {
-              return {
-                ...room,
-                lastMessage: {
-                  content: notification.content,
-                  sentAt: notification.sentAt,
-                },
-                unreadCount: notification.unreadCount,
-              }
-            }
-            return room
-          })
+          return {
+            ...oldData,
+            pages: oldData.pages.map(page => ({
+              ...page,
+              content: page.content.map(room => {
+                // 알림이 온 채팅방 찾기
+                if (room.roomSeq === notification.roomSeq) {
+                  return {
+                    ...room,
+                    lastMessage: {
+                      content: notification.content,
+                      sentAt: notification.sentAt,
+                    },
+                    unreadCount: notification.unreadCount,
+                  }
+                }
+                return room
+              }),
+            })),
+          }
         }
       )
 
@@ -160,5 +172,11 @@ export default function ChatListContent({ authToken }: ChatListContentProps) {
     }
   }, [user?.userSeq, queryClient, authToken, updateLastMessage])
 
-  return <ChatRoomList chatRooms={mergedChatRooms} />
+  return (
+    <ChatRoomList
+      chatRooms={mergedChatRooms}
+      hasMore={hasNextPage}
+      onLoadMore={loadMore}
+    />
+  )
 }
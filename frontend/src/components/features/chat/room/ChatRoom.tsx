@@ -1,6 +1,6 @@
 'use client'
 
-import { useQueryClient } from '@tanstack/react-query'
+import { InfiniteData, useQueryClient } from '@tanstack/react-query'
 import { LogOut } from 'lucide-react'
 import { useCallback, useEffect, useMemo, useRef } from 'react'
 import { useShallow } from 'zustand/react/shallow'
@@ -10,8 +10,9 @@ import { chatQueryKeys } from '@/constants'
 import { ChatMessage, connectWS, sendChat, subscribeChat, unsubscribeChat } from '@/lib/socket'
 import { useLeaveChatRoom, useReadChat } from '@/queries/useChat'
 import { useUser } from '@/queries/useUser'
+import { getMessagesAfter } from '@/services/chatService'
 import { useChatStore } from '@/store/chatStore'
-import { ChatRoomHistoryResponseData } from '@/types/api/chat'
+import { ChatRoomHistoryResponseData, ChatSlice } from '@/types/api/chat'
 
 import ChatInput from '../message/ChatInput'
 import ChatMessageList from '../message/ChatMessageList'
@@ -23,6 +24,8 @@ interface ChatRoomProps {
   initialMessages: ChatRoomHistoryResponseData[] | null
   currentUserSeq: number
   authToken: string | null
+  hasOlderMessages?: boolean
+  onLoadOlderMessages?: () => void
 }
 
 /**
@@ -50,6 +53,8 @@ export default function ChatRoom({
   initialMessages,
   currentUserSeq,
   authToken,
+  hasOlderMessages,
+  onLoadOlderMessages,
 }: ChatRoomProps) {
   const { data: user } = useUser()
   const queryClient = useQueryClient()
@@ -98,6 +103,15 @@ export default function ChatRoom({
     )
   }, [initialMessages, zustandMessages])
 
+  // 받은 메시지 중 가장 큰 messageSeq (재구독 시 놓친 메시지 조회 기준)
+  // 기록을 아직 못 받았으면 null (이후 받는 기록에 구독 전 메시지가 포함되므로 조회하지 않음)
+  const lastMessageSeqRef = useRef<number | null>(null)
+  useEffect(() => {
+    lastMessageSeqRef.current = initialMessages
+      ? allMessages.reduce((max, msg) => Math.max(max, msg.messageSeq), 0)
+      : null
+  }, [initialMessages, allMessages])
+
   // roomSeq가 변경되거나 initialMessages가 업데이트되면 Zustand에 저장
   useEffect(() => {
     if (prevRoomSeqRef.current !== roomSeq) {
@@ -111,14 +125,8 @@ export default function ChatRoom({
     // 서버에서 받은 최신 메시지로 Zustand 업데이트
     if (initialMessages && initialMessages.length > 0) {
       setMessages(roomSeq, initialMessages)
-
-      // React Query 캐시도 업데이트
-      queryClient.setQueryData<ChatRoomHistoryResponseData[]>(
-        chatQueryKeys.room(roomSeq),
-        initialMessages
-      )
     }
-  }, [roomSeq, initialMessages, setMessages, queryClient])
+  }, [roomSeq, initialMessages, setMessages])
 
   // 채팅방 진입 시 읽음 처리 및 Zustand unreadCount 초기화
   useEffect(() => {
@@ -133,27 +141,20 @@ export default function ChatRoom({
     }
   }, [roomSeq, readChat, clearUnreadCount])
 
-  // 실시간 메시지 수신 처리 (useCallback으로 메모이제이션하여 중복 구독 방지)
-  const handleReceiveMessage = useCallback(
-    (chatMessage: ChatMessage) => {
-      console.log('💬 새 메시지 수신:', chatMessage)
-
-      // 메시지를 ChatRoomHistoryResponseData 형식으로 변환
-      const newMessage = convertChatMessageToHistoryData(chatMessage)
-
-      // Zustand에 메시지 추가 (중복 체크 포함)
-      addMessage(roomSeq, newMessage)
-
-      // React Query 캐시도 업데이트
-      queryClient.setQueryData<ChatRoomHistoryResponseData[] | null>(
+  // React Query 캐시에 메시지 추가 (첫 페이지가 최신 메시지 페이지)
+  const appendToCache = useCallback(
+    (newMessage: ChatRoomHistoryResponseData) => {
+      queryClient.setQueryData<InfiniteData<ChatSlice<ChatRoomHistoryResponseData>>>(
         chatQueryKeys.room(roomSeq),
         oldData => {
-          if (!oldData) {
-            return [newMessage]
+          if (!oldData || oldData.pages.length === 0) {
+            return oldData
           }
 
           // 중복 체크: 같은 messageSeq가 이미 있는지 확인
-          const isDuplicate = oldData.some(msg => msg.messageSeq === newMessage.messageSeq)
+          const isDuplicate = oldData.pages.some(page =>
+            page.content.some(msg => msg.messageSeq === newMessage.messageSeq)
+          )
 
           if (isDuplicate) {
             console.log('⚠️ 중복 메시지 무시 (캐시):', newMessage.messageSeq)
@@ -161,13 +162,58 @@ export default function ChatRoom({
           }
 
           // 새 메시지 추가 (중복이 아닌 경우)
-          return [...oldData, newMessage]
+          const [latestPage, ...olderPages] = oldData.pages
+          return {
+            ...oldData,
+            pages: [{ ...latestPage, content: [...latestPage.content, newMessage] }, ...olderPages],
+          }
         }
       )
     },
-    [roomSeq, addMessage, queryClient]
+    [roomSeq, queryClient]
+  )
+
+  // 실시간 메시지 수신 처리 (useCallback으로 메모이제이션하여 중복 구독 방지)
+  const handleReceiveMessage = useCallback(
+    (chatMessage: ChatMessage) => {
+      console.log('💬 새 메시지 수신:', chatMessage)
+
+      // 메시지를 ChatRoomHistoryResponseData 형식으로 변환
+      const newMessage = convertChatMessageToHistoryData(chatMessage)
+
+      // Zustand에 메시지 추가 (중복 체크 포함)
+      addMessage(roomSeq, newMessage)
+
+      // React Query 캐시도 업데이트
+      appendToCache(newMessage)
+    },
+    [roomSeq, addMessage, appendToCache]
   )
 
+  // 구독 전(기록 조회 이후 ~ 구독 사이, 연결 끊김 등)에 놓친 메시지를 after 커서로 끝까지 가져옴
+  const fillMissedMessages = useCallback(async () => {
+    let after = lastMessageSeqRef.current
+    if (after === null) return
+
+    try {
+      let hasMore = true
+      while (hasMore) {
+        const result = await getMessagesAfter(roomSeq, after)
+        const page = result.data
+        if (!page || page.content.length === 0) break
+
+        page.content.forEach(msg => {
+          addMessage(roomSeq, msg)
+          appendToCache(msg)
+        })
+        after = page.content[page.content.length - 1].messageSeq
+        hasMore = !page.last
+      }
+    } catch (error) {
+      console.error('❌ ChatRoom: 놓친 메시지 조회 실패:', error)
+    }
+  }, [roomSeq, addMessage, appendToCache])
+
   // WebSocket 연결 및 채팅방 구독
   useEffect(() => {
     const initWebSocket = async () => {
@@ -184,6 +230,9 @@ export default function ChatRoom({
         // 채팅방 구독 (subscribeChat 내부에서 기존 구독 해제 후 재구독)
         subscribeChat(roomSeq, handleReceiveMessage)
         console.log(`✅ ChatRoom: 채팅방 구독 시작 - /sub/chat/${roomSeq}`)
+
+        // 구독 이후 메시지는 WebSocket 으로 받으므로, 그 전까지 놓친 메시지만 채움
+        await fillMissedMessages()
       } catch (error) {
         console.error('❌ ChatRoom: WebSocket 연결 실패:', error)
       }
@@ -201,7 +250,7 @@ export default function ChatRoom({
       console.log(`🔌 ChatRoom: 채팅방 구독 해제 - /sub/chat/${roomSeq}`)
       // 채팅방을 나갈 때 메시지 정리하지 않음 (다시 들어올 때를 위해 유지)
     }
-  }, [roomSeq, authToken, handleReceiveMessage, readChat])
+  }, [roomSeq, authToken, handleReceiveMessage, fillMissedMessages, readChat])
 
   // 메시지 전송
   const handleSendMessage = async (content: string) => {
@@ -270,6 +319,8 @@ export default function ChatRoom({
         messages={allMessages}
         currentUserSeq={currentUserSeq}
         partnerProfileImage={partnerProfileImage}
+        hasOlderMessages={hasOlderMessages}
+        onLoadOlderMessages={onLoadOlderMessages}
       />
 
       {/* 입력창 */}
@@ -2,11 +2,11 @@
 
 import { useQueryClient } from '@tanstack/react-query'
 import { useParams } from 'next/navigation'
-import { useEffect } from 'react'
+import { useCallback, useEffect } from 'react'
 
 import ChatRoom from '@/components/features/chat/room/ChatRoom'
 import { chatQueryKeys } from '@/constants'
-import { useGetChatRoomHistory, useGetChatRoomList } from '@/queries/useChat'
+import { useGetChatRoom, useGetChatRoomHistory } from '@/queries/useChat'
 import { useUser } from '@/queries/useUser'
 
 interface ChatRoomContentProps {
@@ -21,13 +21,23 @@ export default function ChatRoomContent({ authToken }: ChatRoomContentProps) {
   const { data: user } = useUser()
   const currentUserSeq = user?.userSeq ?? 1
 
-  // 채팅방 정보
+  // 채팅방 정보 (목록은 페이지 단위라 불러오지 않은 방일 수 있으므로 방을 직접 조회)
   const roomId = Number(params.id)
-  const chatRoomList = useGetChatRoomList()
-  const chatRoom = chatRoomList.data?.find(room => room.roomSeq === roomId)
+  const { data: chatRoom, isPending: isRoomPending } = useGetChatRoom(roomId)
 
   // 채팅 내역 (채팅방에 들어올 때마다 최신 데이터 가져오기)
-  const { data: messagesData, refetch } = useGetChatRoomHistory(roomId)
+  const {
+    data: messagesData,
+    refetch,
+    hasNextPage,
+    isFetchingNextPage,
+    fetchNextPage,
+  } = useGetChatRoomHistory(roomId)
+
+  // 맨 위로 스크롤하면 이전 메시지 페이지 로드
+  const loadOlderMessages = useCallback(() => {
+    if (!isFetchingNextPage) fetchNextPage()
+  }, [isFetchingNextPage, fetchNextPage])
 
   // 채팅방에 들어올 때마다 최신 데이터 가져오기
   useEffect(() => {
@@ -41,6 +51,10 @@ export default function ChatRoomContent({ authToken }: ChatRoomContentProps) {
     }
   }, [roomId, queryClient, refetch])
 
+  if (isRoomPending) {
+    return null
+  }
+
   if (!chatRoom) {
     return (
       <div className="flex h-screen items-center justify-center">
@@ -49,7 +63,7 @@ export default function ChatRoomContent({ authToken }: ChatRoomContentProps) {
     )
   }
 
-  // API 응답이 배열 형태로 반환됨
+  // 불러온 페이지를 시간순으로 이어 붙인 배열
   const initialMessages = messagesData ?? null
 
   return (
@@ -60,6 +74,8 @@ export default function ChatRoomContent({ authToken }: ChatRoomContentProps) {
       initialMessages={initialMessages}
       currentUserSeq={currentUserSeq}
       authToken={authToken}
+      hasOlderMessages={hasNextPage}
+      onLoadOlderMessages={loadOlderMessages}
     />
   )
 }
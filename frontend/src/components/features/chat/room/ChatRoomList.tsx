@@ -1,7 +1,7 @@
 'use client'
 
 import { Trash2 } from 'lucide-react'
-import React, { useState } from 'react'
+import React, { useEffect, useRef, useState } from 'react'
 
 import { useLeaveChatRoom } from '@/queries/useChat'
 import { ChatRoomListResponseData } from '@/types/api/chat'
@@ -12,6 +12,8 @@ interface ChatRoomListProps {
   className?: string
   chatRooms: ChatRoomListResponseData[] | null | undefined
   onDeleteRoom?: (roomSeq: number) => void
+  hasMore?: boolean
+  onLoadMore?: () => void
 }
 
 interface SwipeableItemProps {
@@ -110,8 +112,27 @@ function SwipeableItem({ children, onDelete }: SwipeableItemProps) {
   )
 }
 
-export default function ChatRoomList({ chatRooms, className, onDeleteRoom }: ChatRoomListProps) {
+export default function ChatRoomList({
+  chatRooms,
+  className,
+  onDeleteRoom,
+  hasMore,
+  onLoadMore,
+}: ChatRoomListProps) {
   const { mutate: leaveChatRoom, isPending } = useLeaveChatRoom()
+  const loadMoreRef = useRef<HTMLDivElement>(null)
+
+  // 목록 끝이 보이면 다음 페이지 요청
+  useEffect(() => {
+    const target = loadMoreRef.current
+    if (!target || !hasMore || !onLoadMore) return
+
+    const observer = new IntersectionObserver(entries => {
+      if (entries[0].isIntersecting) onLoadMore()
+    })
+    observer.observe(target)
+    return () => observer.disconnect()
+  }, [hasMore, onLoadMore])
 
   const handleDelete = (roomSeq: number) => {
     if (onDeleteRoom) {
@@ -134,6 +155,7 @@ export default function ChatRoomList({ chatRooms, className, onDeleteRoom }: Cha
           <ChatRoomCard chatRoom={chatRoom} />
         </SwipeableItem>
       ))}
+      {hasMore && <div ref={loadMoreRef} className="h-1" />}
     </div>
   )
 }
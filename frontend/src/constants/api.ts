@@ -33,7 +33,9 @@ export const API_ENDPOINTS = {
 
   // 채팅
   CREATE_CHAT: '/api/v1/chat/room',
+  CHAT_ROOM: (roomSeq: number) => `/api/v1/chat/room/${roomSeq}`,
   CHAT_ROOM_HISTORY: (roomSeq: number) => `/api/v1/chat/room/${roomSeq}/history`,
+  CHAT_ROOM_MESSAGES: (roomSeq: number) => `/api/v1/chat/room/${roomSeq}/messages`,
   CHAT_ROOM_LIST: `/api/v1/chat/my/rooms`,
   CHAT_ROOM_LEAVE: (roomId: number) => `/api/v1/chat/room/${roomId}/leave`,
   CHAT_MESSAGE_READ: (roomSeq: number) => `/api/v1/chat/room/${roomSeq}/read`,
@@ -100,6 +100,7 @@ export const chatQueryKeys = {
   all: ['chat'] as const,
   rooms: () => [...chatQueryKeys.all, 'rooms'] as const,
   room: (roomId: number) => [...chatQueryKeys.all, 'room', roomId] as const,
+  roomInfo: (roomId: number) => [...chatQueryKeys.all, 'roomInfo', roomId] as const,
   messages: (roomId: number) => [...chatQueryKeys.all, 'messages', roomId] as const,
 } as const
 
@@ -1,16 +1,18 @@
 'use client'
 
-import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query'
+import { useInfiniteQuery, useMutation, useQuery, useQueryClient } from '@tanstack/react-query'
 import { useRouter } from 'next/navigation'
 
 import { chatQueryKeys } from '@/constants'
 import {
   createChatRoom,
+  getChatRoom,
   getChatRoomHistory,
   getChatRoomList,
   leaveChatRoom,
   messageRead,
 } from '@/services/chatService'
+import { ChatRoomListParams } from '@/types/api/chat'
 
 /**
  * 채팅방 생성 Mutation
@@ -39,34 +41,68 @@ export function useCreateChatRoom() {
 }
 
 /**
- * 채팅방 목록 조회 Query
+ * 채팅방 목록 조회 Query (커서 페이지)
+ * - data 는 지금까지 불러온 페이지를 이어 붙인 배열
+ * - 다음 페이지는 fetchNextPage 로 불러오고, 캐시에는 페이지(Slice) 단위로 저장된다.
  */
 export function useGetChatRoomList() {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: chatQueryKeys.rooms(),
-    queryFn: async () => {
-      const result = await getChatRoomList()
+    queryFn: async ({ pageParam }) => {
+      const result = await getChatRoomList(pageParam)
       if (!result.data) {
         throw new Error('채팅방 목록을 찾을 수 없습니다.')
       }
       return result.data
     },
+    initialPageParam: {} as ChatRoomListParams,
+    getNextPageParam: (lastPage): ChatRoomListParams | undefined => {
+      const lastRoom = lastPage.content[lastPage.content.length - 1]
+      if (lastPage.last || !lastRoom) return undefined
+      return { cursorAt: lastRoom.lastActivityAt, cursorRoomSeq: lastRoom.roomSeq }
+    },
+    select: data => data.pages.flatMap(page => page.content),
   })
 }
 
 /**
- * 특정 채팅방 히스토리 조회 Query
+ * 채팅방 하나 조회 Query (상대방 정보 등)
+ * 목록은 페이지 단위로 불러오므로 채팅방 화면은 목록 대신 이 쿼리를 사용한다.
  */
-export function useGetChatRoomHistory(roomSeq: number) {
+export function useGetChatRoom(roomSeq: number) {
   return useQuery({
-    queryKey: chatQueryKeys.room(roomSeq),
+    queryKey: chatQueryKeys.roomInfo(roomSeq),
     queryFn: async () => {
-      const result = await getChatRoomHistory(roomSeq)
+      const result = await getChatRoom(roomSeq)
+      if (!result.data) {
+        throw new Error('채팅방을 찾을 수 없습니다.')
+      }
+      return result.data
+    },
+    enabled: !!roomSeq,
+  })
+}
+
+/**
+ * 특정 채팅방 히스토리 조회 Query (과거 방향 커서 페이지)
+ * - 첫 페이지가 최신 메시지, fetchNextPage 로 그 이전 메시지를 불러온다.
+ * - data 는 불러온 페이지를 시간순으로 이어 붙인 배열
+ */
+export function useGetChatRoomHistory(roomSeq: number) {
+  return useInfiniteQuery({
+    queryKey: chatQueryKeys.room(roomSeq),
+    queryFn: async ({ pageParam }) => {
+      const result = await getChatRoomHistory(roomSeq, pageParam)
       if (!result.data) {
         throw new Error('채팅방 히스토리를 찾을 수 없습니다.')
       }
       return result.data
     },
+    initialPageParam: undefined as number | undefined,
+    // 각 페이지는 시간순이므로 첫 메시지가 다음(더 과거) 페이지의 커서
+    getNextPageParam: lastPage =>
+      lastPage.last || lastPage.content.length === 0 ? undefined : lastPage.content[0].messageSeq,
+    select: data => [...data.pages].reverse().flatMap(page => page.content),
     enabled: !!roomSeq, // roomSeq가 있을 때만 쿼리 실행
   })
 }
@@ -89,6 +125,9 @@ export function useLeaveChatRoom() {
       queryClient.removeQueries({
         queryKey: chatQueryKeys.room(roomId),
       })
+      queryClient.removeQueries({
+        queryKey: chatQueryKeys.roomInfo(roomId),
+      })
       // 채팅방 목록으로 이동
       router.push('/chat')
     },
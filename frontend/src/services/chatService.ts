@@ -3,8 +3,9 @@ import { authFetch } from '@/lib/fetch'
 import {
   ChatRoomHistoryResponse,
   ChatRoomHistoryResponseData,
+  ChatRoomListParams,
   ChatRoomListResponse,
-  ChatRoomListResponseData,
+  ChatRoomResponse,
   CreateChatRoomResponse,
   CreateChatRoomResponseData,
   LeaveChatRoomResponse,
@@ -23,16 +24,47 @@ export async function createChatRoom(propertySeq: number, isAucPref: boolean) {
 
 /**
  * 채팅방 히스토리 조회
+ * @param before 이미 받은 가장 오래된 messageSeq (첫 페이지면 생략)
  */
-export async function getChatRoomHistory(roomSeq: number) {
-  return authFetch.get<ChatRoomHistoryResponse>(API_ENDPOINTS.CHAT_ROOM_HISTORY(roomSeq))
+export async function getChatRoomHistory(roomSeq: number, before?: number) {
+  const url = API_ENDPOINTS.CHAT_ROOM_HISTORY(roomSeq)
+  return authFetch.get<ChatRoomHistoryResponse>(
+    before !== undefined ? `${url}?before=${before}` : url
+  )
+}
+
+/**
+ * 놓친 메시지 조회 (after 이후 메시지를 시간순으로, last 가 false 면 마지막 messageSeq 로 다시 호출)
+ * @param after 마지막으로 받은 messageSeq
+ */
+export async function getMessagesAfter(roomSeq: number, after: number) {
+  return authFetch.get<ChatRoomHistoryResponse>(
+    `${API_ENDPOINTS.CHAT_ROOM_MESSAGES(roomSeq)}?after=${after}`
+  )
 }
 
 /**
  * 채팅방 목록 조회
  */
-export async function getChatRoomList() {
-  return authFetch.get<ChatRoomListResponse>(API_ENDPOINTS.CHAT_ROOM_LIST)
+export async function getChatRoomList(params: ChatRoomListParams = {}) {
+  const query = new URLSearchParams()
+  if (params.cursorAt && params.cursorRoomSeq !== undefined) {
+    query.set('cursorAt', params.cursorAt)
+    query.set('cursorRoomSeq', String(params.cursorRoomSeq))
+  }
+  if (params.size) query.set('size', String(params.size))
+
+  const qs = query.toString()
+  return authFetch.get<ChatRoomListResponse>(
+    qs ? `${API_ENDPOINTS.CHAT_ROOM_LIST}?${qs}` : API_ENDPOINTS.CHAT_ROOM_LIST
+  )
+}
+
+/**
+ * 채팅방 하나 조회 (목록에 아직 없는 방을 바로 열 때)
+ */
+export async function getChatRoom(roomSeq: number) {
+  return authFetch.get<ChatRoomResponse>(API_ENDPOINTS.CHAT_ROOM(roomSeq))
 }
 
 /**
@@ -1,3 +1,20 @@
+/**
+ * =========== 커서 페이지(Slice) 공통 ===========================
+ * 전체 개수 없이 다음 페이지 존재 여부(last)만 내려온다.
+ */
+export interface ChatSlice<T> {
+  content: T[]
+  size: number
+  number: number
+  first: boolean
+  last: boolean
+  numberOfElements: number
+  empty: boolean
+}
+/**
+ * =================================================================
+ */
+
 /**
  * =========== 채팅방 생성 응답값 ===========================
  */
@@ -23,11 +40,12 @@ export interface CreateChatRoomResponse {
 
 /**
  * =========== 채팅방 채팅 목록 조회 응답값 ===========================
+ * 기록(before)과 놓친 메시지(after) 조회 모두 시간순 메시지 Slice
  */
 export interface ChatRoomHistoryResponse {
   status: number
   message: string
-  data: ChatRoomHistoryResponseData[]
+  data: ChatSlice<ChatRoomHistoryResponseData>
 }
 
 export interface ChatRoomHistoryResponseData {
@@ -52,7 +70,21 @@ export interface ChatRoomHistoryResponseData {
 export interface ChatRoomListResponse {
   status: number
   message: string
-  data: ChatRoomListResponseData[]
+  data: ChatSlice<ChatRoomListResponseData>
+}
+
+// 채팅방 하나 조회 (목록 항목과 같은 형태)
+export interface ChatRoomResponse {
+  status: number
+  message: string
+  data: ChatRoomListResponseData
+}
+
+// 다음 페이지 커서 = 직전 페이지 마지막 항목의 (lastActivityAt, roomSeq), 첫 페이지면 생략
+export interface ChatRoomListParams {
+  cursorAt?: string
+  cursorRoomSeq?: number
+  size?: number
 }
 
 export interface ChatRoomListResponseData {
@@ -68,6 +100,7 @@ export interface ChatRoomListResponseData {
     sentAt: string
   } | null
   unreadCount: number
+  lastActivityAt: string
 }
 /**
  * =================================================================